@@ -0,0 +1,52 @@
+package com.cityCatTarot.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil.decode와 FastJwtVerifier의 토큰 검증 시간을 비교합니다.
+ *
+ * ./gradlew :app:jmh 로 실행하며, 할당량도 보려면 jmh.profilers에 gc를 추가합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifierBenchmark {
+
+    private static final String SECRET = "11112222333344445555666677778888";
+
+    private JwtUtil jwtUtil;
+    private FastJwtVerifier fastJwtVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        fastJwtVerifier = new FastJwtVerifier(jwtUtil);
+        token = jwtUtil.encode(1004L, List.of("USER"), 0L);
+    }
+
+    @Benchmark
+    public TokenClaims jwtUtilDecode() {
+        return TokenClaims.from(jwtUtil.decode(token));
+    }
+
+    @Benchmark
+    public TokenClaims fastJwtVerifier() {
+        return fastJwtVerifier.tryVerify(token);
+    }
+}
@@ -1,15 +1,24 @@
 package com.cityCatTarot;
 
 import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.cityCatTarot.utils.CalibratedBCryptPasswordEncoder;
 import com.github.dozermapper.core.Mapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneId;
+
 @SpringBootApplication
 public class App {
+    private static final Logger log = LoggerFactory.getLogger(App.class);
+
     public String getGreeting() {
         return "Hello, city cat tarot!!";
     }
@@ -24,9 +33,37 @@ public class App {
         return DozerBeanMapperBuilder.buildDefault();
     }
 
+    /**
+     * BCrypt 인코더.
+     * password.bcrypt.strength가 있으면 그 강도를 쓰고, 없으면 이 서버에서 해시 한 번이 지연 예산 안에 드는 가장 높은 강도를 씁니다.
+     * 배포 단위로 같은 강도를 쓰려면 password.bcrypt.strength를 지정합니다.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.bcrypt.strength:0}") int strength,
+            @Value("${password.bcrypt.latency-budget-millis:250}") long latencyBudgetMillis,
+            @Value("${password.bcrypt.min-strength:10}") int minStrength,
+            @Value("${password.bcrypt.max-strength:16}") int maxStrength) {
+        if (strength > 0) {
+            log.info("BCrypt strength pinned to {}", strength);
+            return new CalibratedBCryptPasswordEncoder(strength);
+        }
+
+        CalibratedBCryptPasswordEncoder passwordEncoder = CalibratedBCryptPasswordEncoder.calibrate(
+                Duration.ofMillis(latencyBudgetMillis), minStrength, maxStrength);
+
+        log.info("BCrypt strength calibrated to {} for a {}ms budget",
+                passwordEncoder.getStrength(), latencyBudgetMillis);
+
+        return passwordEncoder;
+    }
+
+    /**
+     * 서비스 기준 시간대(한국)의 시계.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public Clock clock() {
+        return Clock.system(ZoneId.of("Asia/Seoul"));
     }
 
 }
@@ -1,56 +1,158 @@
 package com.cityCatTarot.application;
 
+import com.cityCatTarot.application.VerifiedTokenCache.VerifiedToken;
 import com.cityCatTarot.domain.Role;
 import com.cityCatTarot.domain.RoleRepository;
 import com.cityCatTarot.domain.User;
 import com.cityCatTarot.domain.UserRepository;
 import com.cityCatTarot.errors.EncoderFailException;
+import com.cityCatTarot.errors.InvalidTokenException;
 import com.cityCatTarot.errors.LoginFailException;
 import com.cityCatTarot.errors.LoginFailWithNotFoundEmailException;
+import com.cityCatTarot.errors.PasswordHashingBusyException;
+import com.cityCatTarot.security.UserAuthentication;
+import com.cityCatTarot.utils.FastJwtVerifier;
 import com.cityCatTarot.utils.JwtUtil;
-import io.jsonwebtoken.Claims;
+import com.cityCatTarot.utils.TokenClaims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * 인증을 담당합니다.
  */
 @Service
 public class AuthenticationService {
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationService.class);
+
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final FastJwtVerifier fastJwtVerifier;
+    private final RolesVersionCache rolesVersionCache;
+    private final TaskExecutor taskExecutor;
 
     public AuthenticationService(UserRepository userRepository,
                                  RoleRepository roleRepository,
                                  JwtUtil jwtUtil,
-                                 PasswordEncoder passwordEncoder) {
+                                 PasswordEncoder passwordEncoder,
+                                 PasswordHasher passwordHasher,
+                                 PlatformTransactionManager transactionManager,
+                                 VerifiedTokenCache verifiedTokenCache,
+                                 FastJwtVerifier fastJwtVerifier,
+                                 RolesVersionCache rolesVersionCache,
+                                 TaskExecutor taskExecutor) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.fastJwtVerifier = fastJwtVerifier;
+        this.rolesVersionCache = rolesVersionCache;
+        this.taskExecutor = taskExecutor;
     }
 
     /**
      * 전달된 로그인 정보로 인증한 토큰을 반환합니다.
+     * 토큰에는 회원의 권한과 권한 버전이 담깁니다.
+     * 비밀번호 검증만 비밀번호 해시 스레드 풀에서 실행하고, 권한 조회는 제출하기 전에 마칩니다.
+     * 저장된 비밀번호의 강도가 현재 설정보다 낮으면 로그인 응답과 별도로 다시 암호화해 저장합니다.
      *
      * @param email    회원 이메일
      * @param password 회원 비밀번호
      * @return 인증 토큰
+     * @throws PasswordHashingBusyException 비밀번호 해시 대기열이 가득 찬 경우
      */
-    public String login(String email, String password) throws LoginFailException {
+    public CompletableFuture<String> login(String email, String password) throws LoginFailException {
 
         User user = userRepository.findByEmailForLogin(email)
                 .orElseThrow(() -> new LoginFailWithNotFoundEmailException(email));
 
-        if ((user.authenticate(password, passwordEncoder)) == false) {
-            throw new EncoderFailException(email);
+        List<String> roleNames = roles(user.getId()).stream()
+                .map(Role::getName)
+                .collect(Collectors.toList());
+
+        return passwordHasher.submit(() -> {
+            if ((user.authenticate(password, passwordEncoder)) == false) {
+                throw new EncoderFailException(email);
+            }
+
+            if (user.needsRehash(passwordEncoder)) {
+                rehashInBackground(user.getId(), user.getPassword(), password);
+            }
+
+            return jwtUtil.encode(user.getId(), roleNames, user.getRolesVersion());
+        });
+    }
+
+    /**
+     * 비밀번호를 현재 강도로 다시 암호화해 저장합니다.
+     * 저장은 해시 스레드를 잡아두지 않도록 애플리케이션 작업 스레드 풀에서 실행합니다.
+     * 해시 대기열이 가득 찼거나 실패하면 다음 로그인 때 다시 시도합니다.
+     */
+    private void rehashInBackground(Long userId, String currentPassword, String rawPassword) {
+        try {
+            passwordHasher.encode(rawPassword)
+                    .thenAcceptAsync(newPassword -> transactionTemplate.executeWithoutResult(status ->
+                            userRepository.updatePassword(userId, currentPassword, newPassword)),
+                            taskExecutor)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.warn("Failed to rehash password of user {}", userId, e);
+                        }
+                    });
+        } catch (PasswordHashingBusyException e) {
+            log.debug("Skipped password rehash of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 전달된 토큰으로 인증한 회원 인증 정보를 리턴합니다.
+     * 권한은 토큰에 담긴 것을 쓰고, 토큰의 권한 버전이 회원의 현재 권한 버전과 같은지만 확인합니다.
+     *
+     * @param accessToken 인증 토큰
+     * @return 회원 인증 정보
+     * @throws InvalidTokenException 토큰이 유효하지 않거나, 발급 후 회원의 권한이 바뀌었을 경우
+     */
+    public UserAuthentication authenticate(String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            throw new InvalidTokenException(accessToken);
+        }
+
+        VerifiedToken verified = verifiedTokenCache.get(accessToken, this::verify);
+        if (verified.getRolesVersion() != rolesVersionCache.get(verified.getUserId())) {
+            throw new InvalidTokenException(accessToken);
         }
 
-        return jwtUtil.encode(user.getId());
+        return new UserAuthentication(verified.getUserId(), verified.getRoles());
+    }
+
+    private VerifiedToken verify(String accessToken) {
+        TokenClaims claims = fastJwtVerifier.verify(accessToken);
+        if (claims.getUserId() == null || claims.getRolesVersion() == null) {
+            throw new InvalidTokenException(accessToken);
+        }
+
+        List<Role> roles = claims.getRoles().stream()
+                .map(Role::new)
+                .collect(Collectors.toList());
+
+        return new VerifiedToken(claims.getUserId(), roles,
+                claims.getRolesVersion(), claims.getExpiresAt());
     }
 
     /**
@@ -59,8 +161,7 @@ public class AuthenticationService {
      * @return 회원 식별자
      */
     public Long parseToken(String accessToken) {
-        Claims claims = jwtUtil.decode(accessToken);
-        return claims.get("user_id", Long.class);
+        return fastJwtVerifier.verify(accessToken).getUserId();
     }
 
     /**
@@ -2,19 +2,24 @@ package com.cityCatTarot.application;
 
 import com.cityCatTarot.domain.Card;
 import com.cityCatTarot.domain.CardRepository;
+import com.cityCatTarot.errors.CardCategoryNotFoundException;
 import com.cityCatTarot.errors.CardNotFoundException;
+import com.cityCatTarot.errors.NotEnoughCardsException;
 import com.github.dozermapper.core.Mapper;
 import org.springframework.stereotype.Service;
 
-import javax.transaction.Transactional;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
 
 /**
  * 카드에 관한 비즈니스 로직을 담당합니다.
+ *
+ * 카드는 메모리에 올려 둔 카드 목록에서 조회하므로 트랜잭션을 열지 않습니다.
  */
 @Service
-@Transactional
 public class CardService {
 
     private final Mapper mapper;
@@ -43,4 +48,67 @@ public class CardService {
         return cardRepository.findById(cardId)
                 .orElseThrow(() -> new CardNotFoundException(cardId));
     }
+
+    /**
+     * 전달된 카테고리에 속한 모든 카드를 리턴합니다.
+     *
+     * @param cardCategory 카드 카테고리
+     * @return 카테고리에 속한 카드 목록
+     * @throws CardCategoryNotFoundException 카테고리에 속한 카드가 없는 경우
+     */
+    public List<Card> getCardsByCategory(String cardCategory) {
+        List<Card> cards = cardRepository.findAllByCategory(cardCategory);
+        if (cards.isEmpty()) {
+            throw new CardCategoryNotFoundException(cardCategory);
+        }
+        return cards;
+    }
+
+    /**
+     * 전달된 카테고리에 속하고 식별자에 해당하는 카드를 리턴합니다.
+     *
+     * @param cardCategory 카드 카테고리
+     * @param cardId 카드 식별자
+     * @return 전달된 카테고리와 식별자에 해당하는 카드
+     * @throws CardNotFoundException 카테고리에 식별자에 해당하는 카드가 없는 경우
+     */
+    public Card getCard(String cardCategory, Long cardId) {
+        return cardRepository.findById(cardId)
+                .filter(card -> cardCategory.equals(card.getCardCategory()))
+                .orElseThrow(() -> new CardNotFoundException(cardId));
+    }
+
+    /**
+     * 전달된 카테고리에서 서로 다른 카드를 전달된 장수만큼 무작위로 뽑아 리턴합니다.
+     * 카테고리가 없으면 전체 카드에서 뽑습니다.
+     *
+     * @param cardCategory 카드 카테고리
+     * @param count 뽑을 카드 장수
+     * @return 뽑은 순서대로 정렬된 카드 목록
+     * @throws CardCategoryNotFoundException 카테고리에 속한 카드가 없는 경우
+     * @throws NotEnoughCardsException 카드가 뽑을 장수보다 적은 경우
+     */
+    public List<Card> drawCards(String cardCategory, int count) {
+        List<Card> deck = cardCategory == null
+                ? getCards()
+                : getCardsByCategory(cardCategory);
+
+        if (count > deck.size()) {
+            throw new NotEnoughCardsException(cardCategory, count);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] indexes = IntStream.range(0, deck.size()).toArray();
+        List<Card> drawn = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            int picked = i + random.nextInt(indexes.length - i);
+            int index = indexes[picked];
+            indexes[picked] = indexes[i];
+            indexes[i] = index;
+            drawn.add(deck.get(index));
+        }
+
+        return drawn;
+    }
 }
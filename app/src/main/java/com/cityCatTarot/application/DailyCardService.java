@@ -0,0 +1,127 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.Card;
+import com.cityCatTarot.errors.CardCategoryNotFoundException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 회원별 오늘의 카드를 담당합니다.
+ *
+ * 오늘의 카드는 회원 식별자, 날짜, 카드 카테고리의 해시로 정해지므로
+ * 데이터베이스에 저장하지 않아도 하루 동안, 그리고 어느 서버에서나 같은 카드가 나옵니다.
+ * 계산한 결과는 자정까지만 메모리에 보관합니다.
+ */
+@Service
+public class DailyCardService {
+
+    private final CardService cardService;
+    private final Clock clock;
+    private final long maximumSize;
+
+    private volatile DailyCards dailyCards;
+
+    public DailyCardService(CardService cardService,
+                            Clock clock,
+                            @Value("${daily-card.cache.maximum-size:100000}") long maximumSize) {
+        this.cardService = cardService;
+        this.clock = clock;
+        this.maximumSize = maximumSize;
+        this.dailyCards = new DailyCards(LocalDate.now(clock), maximumSize);
+    }
+
+    /**
+     * 전달된 회원의 오늘의 카드를 리턴합니다.
+     *
+     * @param userId 회원 식별자
+     * @param cardCategory 카드 카테고리
+     * @return 오늘의 카드
+     * @throws CardCategoryNotFoundException 카테고리에 속한 카드가 없는 경우
+     */
+    public Card getDailyCard(Long userId, String cardCategory) {
+        LocalDate today = LocalDate.now(clock);
+
+        return dailyCardsOf(today).cards.asMap().computeIfAbsent(
+                new DailyCardKey(userId, cardCategory),
+                key -> pick(userId, today, cardCategory));
+    }
+
+    private DailyCards dailyCardsOf(LocalDate today) {
+        DailyCards current = dailyCards;
+        if (current.date.equals(today)) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (!dailyCards.date.equals(today)) {
+                dailyCards = new DailyCards(today, maximumSize);
+            }
+            return dailyCards;
+        }
+    }
+
+    private Card pick(Long userId, LocalDate date, String cardCategory) {
+        List<Card> cards = cardService.getCardsByCategory(cardCategory);
+
+        int hash = Hashing.murmur3_32().newHasher()
+                .putLong(userId)
+                .putLong(date.toEpochDay())
+                .putBytes(cardCategory.getBytes(StandardCharsets.UTF_8))
+                .hash()
+                .asInt();
+
+        return cards.get(Math.floorMod(hash, cards.size()));
+    }
+
+    /**
+     * 하루 동안 계산된 오늘의 카드.
+     */
+    private static final class DailyCards {
+        private final LocalDate date;
+        private final Cache<DailyCardKey, Card> cards;
+
+        private DailyCards(LocalDate date, long maximumSize) {
+            this.date = date;
+            this.cards = CacheBuilder.newBuilder()
+                    .maximumSize(maximumSize)
+                    .build();
+        }
+    }
+
+    private static final class DailyCardKey {
+        private final Long userId;
+        private final String cardCategory;
+
+        private DailyCardKey(Long userId, String cardCategory) {
+            this.userId = userId;
+            this.cardCategory = cardCategory;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof DailyCardKey)) {
+                return false;
+            }
+            DailyCardKey that = (DailyCardKey) other;
+            return userId.equals(that.userId)
+                    && cardCategory.equals(that.cardCategory);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, cardCategory);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.User;
+import com.cityCatTarot.domain.UserRepository;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 가입한 회원 이메일의 블룸 필터.
+ *
+ * 필터에 없는 이메일은 이 서버가 아는 한 가입되지 않았으므로 데이터베이스를 조회하지 않아도 됩니다.
+ * 필터는 시작할 때 전체 이메일을 읽어 만들고, 그 뒤로 정해진 간격마다 다시 만듭니다.
+ * 만들기 전에는 모든 이메일을 "있을 수 있음"으로 답합니다.
+ *
+ * 이 서버에서 가입한 이메일은 바로 더해지지만, 다른 서버에서 가입한 이메일은 다음 재구성 때 반영됩니다.
+ * 그 사이에는 이메일 중복 확인이 "사용 가능"으로 답할 수 있으나, 가입할 때는 데이터베이스로 다시 확인하므로 중복 가입은 되지 않습니다.
+ */
+@Component
+public class EmailBloomFilter implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final long rebuildIntervalMinutes;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicLong definitelyFree = new AtomicLong();
+    private final AtomicLong possibleHits = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private final AtomicLong lastRebuildNanos = new AtomicLong();
+
+    private volatile BloomFilter<String> filter;
+
+    /**
+     * 마지막 재구성을 시작한 뒤로 put된 이메일. 항상 비어 있지 않은 대기열을 가리킵니다.
+     * put은 먼저 여기에 넣은 뒤 필터에 넣고, rebuild는 새 필터를 공개한 뒤 여기를 다시 넣으므로,
+     * 재구성이 읽은 스냅숏 뒤에 커밋된 가입도 새 필터에서 빠지지 않습니다. 시작 전의 가입도 첫 재구성에 들어갑니다.
+     */
+    private volatile Queue<String> addedSinceRebuild = new ConcurrentLinkedQueue<>();
+
+    public EmailBloomFilter(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.email-filter.fpp:0.01}") double fpp,
+            @Value("${user.email-filter.rebuild-interval-minutes:10}") long rebuildIntervalMinutes) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.rebuildIntervalMinutes = rebuildIntervalMinutes;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("email-filter-rebuild")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * 필터를 처음 만들고, 그 뒤로 user.email-filter.rebuild-interval-minutes마다 다시 만들도록 예약합니다.
+     * 간격이 0 이하이면 처음 한 번만 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+
+        if (rebuildIntervalMinutes > 0) {
+            scheduler.scheduleWithFixedDelay(this::rebuildQuietly,
+                    rebuildIntervalMinutes, rebuildIntervalMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 가입한 모든 회원의 이메일을 읽어 필터를 새로 만듭니다.
+     * 지난 재구성 뒤로, 그리고 만드는 동안 추가된 이메일도 새 필터에 들어갑니다.
+     */
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        Queue<String> previous = addedSinceRebuild;
+        Queue<String> added = new ConcurrentLinkedQueue<>();
+        addedSinceRebuild = added;
+
+        BloomFilter<String> rebuilt = newFilter();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.map(User::normalizeEmail).forEach(rebuilt::put);
+                }
+            });
+        } catch (RuntimeException e) {
+            added.addAll(previous);
+            throw e;
+        }
+
+        filter = rebuilt;
+        previous.forEach(rebuilt::put);
+        added.forEach(rebuilt::put);
+
+        lastRebuildNanos.set(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 예약된 재구성. 실패해도 예약이 멈추지 않도록 예외를 기록만 하고, 이전 필터를 계속 씁니다.
+     */
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild the email Bloom filter", e);
+        }
+    }
+
+    /**
+     * 전달된 이메일이 가입되어 있을 수 있으면 true를 리턴합니다.
+     * false면 가입되지 않은 것이 확실합니다.
+     *
+     * @param email 이메일
+     */
+    public boolean mightContain(String email) {
+        BloomFilter<String> current = filter;
+        if (current == null || current.mightContain(User.normalizeEmail(email))) {
+            possibleHits.incrementAndGet();
+            return true;
+        }
+
+        definitelyFree.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 새로 가입한 회원의 이메일을 필터에 더합니다.
+     *
+     * @param email 이메일
+     */
+    public void put(String email) {
+        String normalized = User.normalizeEmail(email);
+
+        addedSinceRebuild.add(normalized);
+
+        BloomFilter<String> current = filter;
+        if (current != null) {
+            current.put(normalized);
+        }
+    }
+
+    /**
+     * mightContain이 true였지만 데이터베이스에 없던 이메일을 기록합니다.
+     */
+    public void recordFalsePositive() {
+        falsePositives.incrementAndGet();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("user.email.filter.expected.fpp", this,
+                emailBloomFilter -> emailBloomFilter.filter == null
+                        ? 1.0 : emailBloomFilter.filter.expectedFpp())
+                .description("Expected false positive probability of the email Bloom filter")
+                .register(registry);
+        FunctionCounter.builder("user.email.filter.checks", definitelyFree, AtomicLong::get)
+                .tag("result", "definitely_free")
+                .register(registry);
+        FunctionCounter.builder("user.email.filter.checks", possibleHits, AtomicLong::get)
+                .tag("result", "possible_hit")
+                .register(registry);
+        FunctionCounter.builder("user.email.filter.false.positives", falsePositives, AtomicLong::get)
+                .description("Possible hits that the database reported as free")
+                .register(registry);
+        TimeGauge.builder("user.email.filter.rebuild.duration", lastRebuildNanos,
+                TimeUnit.NANOSECONDS, AtomicLong::get)
+                .register(registry);
+    }
+
+    private BloomFilter<String> newFilter() {
+        return BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, fpp);
+    }
+}
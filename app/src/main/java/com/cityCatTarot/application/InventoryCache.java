@@ -0,0 +1,121 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.dto.InventoryResultData;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 회원별로 최근에 저장한 보관함 카드를 보관합니다.
+ *
+ * 회원 수와 마지막 조회 후 경과 시간으로 비우며, 적중/실패/제거 횟수는 cache.* 지표로 노출됩니다.
+ *
+ * 읽는 도중에 비워진 목록은 보관하지 않도록, 회원 식별자로 나눈 구역마다 비운 횟수(세대)를 셉니다.
+ * 읽기 전과 후의 세대가 다르면 읽은 목록을 돌려주기만 하고 보관하지 않습니다.
+ */
+@Component
+public class InventoryCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "inventory";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Long, List<InventoryResultData>> recentInventories;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public InventoryCache(
+            @Value("${inventory.cache.maximum-size:10000}") long maximumSize,
+            @Value("${inventory.cache.expire-after-access-minutes:10}") long expireAfterAccessMinutes) {
+        this.recentInventories = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 전달된 회원의 최근 보관함 카드를 리턴합니다. 없으면 loader로 읽어 보관합니다.
+     * 읽는 동안 evict가 호출되었다면 읽은 목록을 보관하지 않습니다.
+     *
+     * @param userId 회원 식별자
+     * @param loader 최근 보관함 카드를 읽는 함수
+     * @return 최근에 저장한 순서의 보관함 카드 목록
+     */
+    public List<InventoryResultData> get(Long userId,
+                                         Supplier<List<InventoryResultData>> loader) {
+        List<InventoryResultData> cached = recentInventories.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(userId);
+        long generation = generations.get(stripe);
+
+        List<InventoryResultData> loaded = loader.get();
+
+        recentInventories.asMap().compute(userId, (key, current) ->
+                generations.get(stripe) == generation ? loaded : current);
+
+        return loaded;
+    }
+
+    /**
+     * 전달된 회원의 최근 보관함 카드가 보관되어 있으면 리턴합니다.
+     *
+     * @param userId 회원 식별자
+     */
+    public Optional<List<InventoryResultData>> getIfPresent(Long userId) {
+        return Optional.ofNullable(recentInventories.getIfPresent(userId));
+    }
+
+    /**
+     * 전달된 회원의 보관함 카드를 비웁니다.
+     * 세대를 올려 지금 읽고 있는 목록이 보관되지 않게 하고,
+     * 트랜잭션 안에서 호출되면 커밋 직후에 한 번 더 비워, 커밋 전에 다시 읽힌 목록이 남지 않게 합니다.
+     *
+     * @param userId 회원 식별자
+     */
+    public void evict(Long userId) {
+        invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronizationAdapter() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            invalidate(userId);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 세대를 먼저 올린 뒤 비웁니다.
+     * get의 compute는 키 단위로 원자적이므로, 세대를 올리기 전에 보관된 목록은 여기서 지워지고
+     * 올린 뒤의 compute는 바뀐 세대를 보고 보관하지 않습니다.
+     */
+    private void invalidate(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        recentInventories.invalidate(userId);
+    }
+
+    private static int stripe(Long userId) {
+        return Long.hashCode(userId) & (GENERATION_STRIPES - 1);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, recentInventories, CACHE_NAME);
+    }
+}
@@ -0,0 +1,273 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.Inventory;
+import com.cityCatTarot.domain.InventoryRepository;
+import com.cityCatTarot.utils.NgramTokenizer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 회원별로 보관함 카드의 질문을 n-gram 역색인으로 보관합니다.
+ *
+ * 색인은 회원이 처음 검색할 때 보관함을 한 번 읽어 만들고, 이후에는 저장과 삭제가 커밋될 때마다 바로 고칩니다.
+ * 색인을 만드는 동안 커밋된 저장과 삭제는 따로 모아 두었다가, 다 만든 색인에 다시 적용한 뒤 보관합니다.
+ */
+@Component
+public class InventorySearchIndex implements MeterBinder {
+
+    private static final String CACHE_NAME = "inventory.search";
+
+    private final InventoryRepository inventoryRepository;
+
+    private final Cache<Long, UserIndex> userIndexes;
+
+    /**
+     * 회원별로 만들고 있는 색인. 회원별 잠금을 잡은 채로만 읽고 고칩니다.
+     */
+    private final ConcurrentMap<Long, List<PendingLoad>> pendingLoads = new ConcurrentHashMap<>();
+    private final Striped<Lock> userLocks = Striped.lock(64);
+
+    public InventorySearchIndex(
+            InventoryRepository inventoryRepository,
+            @Value("${inventory.search.maximum-size:10000}") long maximumSize,
+            @Value("${inventory.search.expire-after-access-minutes:30}") long expireAfterAccessMinutes) {
+        this.inventoryRepository = inventoryRepository;
+        this.userIndexes = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 전달된 회원의 보관함에서 질문에 검색어가 들어 있는 카드를 최근에 저장한 순서로 리턴합니다.
+     * 색인이 없으면 보관함을 읽어 만듭니다. 트랜잭션 안에서 호출해야 하며,
+     * 만드는 동안 커밋된 변경이 빠지지 않도록 트랜잭션에서 처음 읽는 쿼리여야 합니다.
+     *
+     * @param userId 회원 식별자
+     * @param query  검색어
+     * @param limit  최대 개수
+     */
+    public List<Inventory> search(Long userId, String query, int limit) {
+        Set<String> terms = NgramTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        return getUserIndex(userId).search(terms, limit, inventory ->
+                NgramTokenizer.contains(inventory.getUserInputSubject(), query));
+    }
+
+    /**
+     * 커밋된 뒤에 전달된 보관함 카드를 색인에 더합니다.
+     * 아직 색인이 없는 회원은 무시하고, 색인을 만들고 있는 회원은 다 만든 뒤에 더합니다.
+     *
+     * @param inventories 저장된 보관함 카드 목록
+     */
+    public void add(Collection<Inventory> inventories) {
+        afterCommit(() -> inventories.forEach(inventory ->
+                change(inventory.getUserId(), userIndex -> userIndex.add(inventory))));
+    }
+
+    /**
+     * 커밋된 뒤에 전달된 보관함 카드를 색인에서 뺍니다.
+     *
+     * @param userId       회원 식별자
+     * @param inventoryIds 삭제된 보관함 식별자 목록
+     */
+    public void remove(Long userId, Collection<Long> inventoryIds) {
+        afterCommit(() -> change(userId, userIndex -> inventoryIds.forEach(userIndex::remove)));
+    }
+
+    /**
+     * 커밋된 뒤에 전달된 회원의 색인을 버립니다. 만들고 있던 색인도 보관하지 않습니다.
+     *
+     * @param userId 회원 식별자
+     */
+    public void evict(Long userId) {
+        afterCommit(() -> withUserLock(userId, () -> {
+            userIndexes.invalidate(userId);
+            pendingLoads.getOrDefault(userId, List.of())
+                    .forEach(load -> load.discarded = true);
+        }));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, userIndexes, CACHE_NAME);
+    }
+
+    private UserIndex getUserIndex(Long userId) {
+        UserIndex cached = userIndexes.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        PendingLoad load = new PendingLoad();
+        withUserLock(userId, () ->
+                pendingLoads.computeIfAbsent(userId, key -> new ArrayList<>()).add(load));
+
+        UserIndex userIndex = new UserIndex();
+        try (Stream<Inventory> inventories = inventoryRepository.streamByUserId(userId)) {
+            inventories.forEach(userIndex::add);
+        } catch (RuntimeException e) {
+            withUserLock(userId, () -> removePendingLoad(userId, load));
+            throw e;
+        }
+
+        withUserLock(userId, () -> {
+            removePendingLoad(userId, load);
+            load.changes.forEach(change -> change.accept(userIndex));
+            if (!load.discarded) {
+                userIndexes.put(userId, userIndex);
+            }
+        });
+        return userIndex;
+    }
+
+    private void removePendingLoad(Long userId, PendingLoad load) {
+        List<PendingLoad> loads = pendingLoads.get(userId);
+        loads.remove(load);
+        if (loads.isEmpty()) {
+            pendingLoads.remove(userId);
+        }
+    }
+
+    /**
+     * 보관된 색인을 고치고, 만들고 있는 색인에는 다 만든 뒤에 적용하도록 모아 둡니다.
+     */
+    private void change(Long userId, Consumer<UserIndex> change) {
+        withUserLock(userId, () -> {
+            UserIndex userIndex = userIndexes.getIfPresent(userId);
+            if (userIndex != null) {
+                change.accept(userIndex);
+            }
+            pendingLoads.getOrDefault(userId, List.of())
+                    .forEach(load -> load.changes.add(change));
+        });
+    }
+
+    private void withUserLock(Long userId, Runnable action) {
+        Lock lock = userLocks.get(userId);
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
+
+    /**
+     * 만들고 있는 색인과, 만드는 동안 커밋된 변경. 회원별 잠금을 잡은 채로만 읽고 고칩니다.
+     */
+    private static final class PendingLoad {
+        private final List<Consumer<UserIndex>> changes = new ArrayList<>();
+        private boolean discarded;
+    }
+
+    /**
+     * 한 회원의 n-gram별 보관함 식별자 목록.
+     */
+    private static final class UserIndex {
+        private final Map<String, NavigableSet<Long>> postings = new HashMap<>();
+        private final Map<Long, Inventory> inventories = new HashMap<>();
+
+        synchronized void add(Inventory inventory) {
+            remove(inventory.getInventoryId());
+
+            inventories.put(inventory.getInventoryId(), inventory);
+            for (String term : NgramTokenizer.indexTerms(inventory.getUserInputSubject())) {
+                postings.computeIfAbsent(term, key -> new TreeSet<>(Comparator.reverseOrder()))
+                        .add(inventory.getInventoryId());
+            }
+        }
+
+        synchronized void remove(Long inventoryId) {
+            Inventory removed = inventories.remove(inventoryId);
+            if (removed == null) {
+                return;
+            }
+
+            for (String term : NgramTokenizer.indexTerms(removed.getUserInputSubject())) {
+                NavigableSet<Long> inventoryIds = postings.get(term);
+                if (inventoryIds != null) {
+                    inventoryIds.remove(inventoryId);
+                    if (inventoryIds.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        synchronized List<Inventory> search(Set<String> terms, int limit,
+                                            Predicate<Inventory> filter) {
+            List<NavigableSet<Long>> matches = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                NavigableSet<Long> inventoryIds = postings.get(term);
+                if (inventoryIds == null) {
+                    return List.of();
+                }
+                matches.add(inventoryIds);
+            }
+            matches.sort(Comparator.comparingInt(Set::size));
+
+            NavigableSet<Long> smallest = matches.get(0);
+            List<NavigableSet<Long>> others = matches.subList(1, matches.size());
+
+            List<Inventory> result = new ArrayList<>(Math.min(limit, smallest.size()));
+            for (Long inventoryId : smallest) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                if (others.stream().allMatch(inventoryIds -> inventoryIds.contains(inventoryId))) {
+                    Inventory inventory = inventories.get(inventoryId);
+                    if (filter.test(inventory)) {
+                        result.add(inventory);
+                    }
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+    }
+}
@@ -1,42 +1,370 @@
 package com.cityCatTarot.application;
 
+import com.cityCatTarot.domain.Card;
+import com.cityCatTarot.domain.CardRepository;
 import com.cityCatTarot.domain.Inventory;
+import com.cityCatTarot.domain.InventoryCardCount;
 import com.cityCatTarot.domain.InventoryRepository;
 import com.cityCatTarot.domain.UserRepository;
+import com.cityCatTarot.dto.InventoryCardSummaryData;
+import com.cityCatTarot.dto.InventoryCategorySummaryData;
+import com.cityCatTarot.dto.InventoryDeleteResultData;
+import com.cityCatTarot.dto.InventoryPageData;
+import com.cityCatTarot.dto.InventoryResultData;
 import com.cityCatTarot.dto.InventorySaveData;
-import com.github.dozermapper.core.Mapper;
+import com.cityCatTarot.dto.InventorySummaryData;
+import com.cityCatTarot.errors.CardNotFoundException;
+import com.cityCatTarot.errors.InventoryWriteBufferFullException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+/**
+ * 보관함에 관한 비즈니스 로직을 담당합니다.
+ *
+ * 보관함에는 카드 식별자만 저장하고, 카드 내용은 조회할 때 카드 목록에서 채웁니다.
+ * 회원별로 최근 카드 목록을 캐시에 보관하고, 저장하거나 삭제하면 그 회원의 캐시를 비웁니다.
+ * 조회는 읽기 전용 트랜잭션에서 실행해 flush와 변경 감지를 하지 않습니다.
+ */
 @Service
 @Transactional
 public class InventoryService {
 
-    private final Mapper mapper;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int RECENT_INVENTORY_SIZE = MAX_PAGE_SIZE + 1;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
     private final InventoryRepository inventoryRepository;
     private final UserRepository userRepository;
+    private final CardRepository cardRepository;
+    private final InventoryCache inventoryCache;
+    private final Optional<InventoryWriteBehindBuffer> inventoryWriteBehindBuffer;
+    private final InventorySearchIndex inventorySearchIndex;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
-    public InventoryService(Mapper mapper, InventoryRepository inventoryRepository, UserRepository userRepository) {
-        this.mapper = mapper;
+    public InventoryService(InventoryRepository inventoryRepository,
+                            UserRepository userRepository,
+                            CardRepository cardRepository,
+                            InventoryCache inventoryCache,
+                            Optional<InventoryWriteBehindBuffer> inventoryWriteBehindBuffer,
+                            InventorySearchIndex inventorySearchIndex,
+                            Clock clock,
+                            PlatformTransactionManager transactionManager) {
         this.inventoryRepository = inventoryRepository;
         this.userRepository = userRepository;
+        this.cardRepository = cardRepository;
+        this.inventoryCache = inventoryCache;
+        this.inventoryWriteBehindBuffer = inventoryWriteBehindBuffer;
+        this.inventorySearchIndex = inventorySearchIndex;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 전달된 회원의 보관함에 카드를 저장한 뒤, 카드 내용을 채운 결과를 리턴합니다.
+     * 쓰기 지연이 켜져 있으면 트랜잭션 없이 식별자만 할당해 대기열에 넣고 바로 리턴하고,
+     * 캐시와 검색 색인은 대기열이 카드를 실제로 저장한 뒤에 고칩니다.
+     * 꺼져 있으면 저장할 때만 트랜잭션을 엽니다.
+     *
+     * @param inventorySaveData 저장할 카드 식별자와 회원이 입력한 질문
+     * @param userId            인증된 회원 식별자
+     * @return 저장된 보관함 카드
+     * @throws CardNotFoundException 카드 식별자에 해당하는 카드가 없는 경우
+     * @throws InventoryWriteBufferFullException 쓰기 지연 대기열이 가득 찬 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InventoryResultData saveCardDetail(InventorySaveData inventorySaveData,
+                                              Long userId) throws AccessDeniedException {
+        Long cardId = inventorySaveData.getCardId();
+        Card card = cardRepository.findById(cardId)
+                .orElseThrow(() -> new CardNotFoundException(cardId));
+
+        Inventory inventory = Inventory.builder()
+                .userId(userId)
+                .cardId(cardId)
+                .userInputSubject(inventorySaveData.getUserInputSubject())
+                .savedAt(LocalDateTime.now(clock))
+                .build();
+        if (inventoryWriteBehindBuffer.isPresent()) {
+            Inventory queued = inventoryWriteBehindBuffer.get().enqueue(inventory);
+            return getInventoryData(queued, Optional.of(card));
+        }
+
+        Inventory saved = transactionTemplate.execute(status -> inventoryRepository.save(inventory));
+        inventoryCache.evict(userId);
+        inventorySearchIndex.add(List.of(saved));
+
+        return getInventoryData(saved, Optional.of(card));
+    }
+
+    /**
+     * 전달된 회원의 보관함에 여러 장의 카드를 한 트랜잭션으로 저장합니다.
+     * 카드 식별자를 모두 확인한 뒤에 저장하므로, 하나라도 없는 카드가 있으면 아무것도 저장하지 않습니다.
+     *
+     * @param inventorySaveDataList 저장할 카드 식별자와 회원이 입력한 질문 목록
+     * @param userId                인증된 회원 식별자
+     * @return 요청한 순서대로 저장된 보관함 카드 목록
+     * @throws CardNotFoundException 카드 식별자에 해당하는 카드가 없는 경우
+     */
+    public List<InventoryResultData> saveCardDetails(List<InventorySaveData> inventorySaveDataList,
+                                                     Long userId) {
+        List<Card> cards = inventorySaveDataList.stream()
+                .map(InventorySaveData::getCardId)
+                .map(cardId -> cardRepository.findById(cardId)
+                        .orElseThrow(() -> new CardNotFoundException(cardId)))
+                .collect(Collectors.toList());
+
+        LocalDateTime savedAt = LocalDateTime.now(clock);
+        List<Inventory> inventories = inventoryRepository.saveAll(inventorySaveDataList.stream()
+                .map(inventorySaveData -> Inventory.builder()
+                        .userId(userId)
+                        .cardId(inventorySaveData.getCardId())
+                        .userInputSubject(inventorySaveData.getUserInputSubject())
+                        .savedAt(savedAt)
+                        .build())
+                .collect(Collectors.toList()));
+        inventoryCache.evict(userId);
+        inventorySearchIndex.add(inventories);
+
+        List<InventoryResultData> results = new ArrayList<>(inventories.size());
+        for (int i = 0; i < inventories.size(); i++) {
+            results.add(getInventoryData(inventories.get(i), Optional.of(cards.get(i))));
+        }
+        return results;
+    }
+
+    /**
+     * 전달된 회원이 저장한 카드를 최근에 저장한 순서로 한 페이지 리턴합니다.
+     * 최근 카드 목록 안에서 끝나는 페이지는 캐시에서 읽습니다.
+     *
+     * @param userId 회원 식별자
+     * @param cursor 이전 페이지의 nextCursor. 첫 페이지는 null
+     * @param size   페이지 크기. 1 이상 100 이하로 조정됩니다.
+     * @return 카드 목록과 다음 페이지 커서. 마지막 페이지면 커서는 null
+     */
+    @Transactional(readOnly = true)
+    public InventoryPageData findCardListWithUserId(Long userId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        Optional<List<InventoryResultData>> recentInventories = cursor == null
+                ? Optional.of(inventoryCache.get(userId,
+                        () -> findInventoryData(userId, null, RECENT_INVENTORY_SIZE)))
+                : inventoryCache.getIfPresent(userId);
+
+        List<InventoryResultData> inventories = recentInventories
+                .flatMap(recent -> slice(recent, cursor, pageSize + 1))
+                .orElseGet(() -> findInventoryData(userId, cursor, pageSize + 1));
+
+        boolean hasNext = inventories.size() > pageSize;
+        List<InventoryResultData> page = hasNext ? inventories.subList(0, pageSize) : inventories;
+
+        return InventoryPageData.builder()
+                .inventories(page)
+                .nextCursor(hasNext ? page.get(pageSize - 1).getInventoryId() : null)
+                .build();
+    }
+
+    /**
+     * 전달된 회원이 저장한 카드 중 질문에 검색어가 들어 있는 카드를 최근에 저장한 순서로 리턴합니다.
+     * 띄어쓰기와 대소문자는 구분하지 않으며, 보관함 테이블이 아닌 회원별 검색 색인에서 찾습니다.
+     *
+     * @param userId 회원 식별자
+     * @param query  검색어
+     * @param size   최대 개수. 1 이상 100 이하로 조정됩니다.
+     */
+    @Transactional(readOnly = true)
+    public List<InventoryResultData> searchCardDetails(Long userId, String query, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        return inventorySearchIndex.search(userId, query, limit).stream()
+                .map(this::getInventoryData)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 전달된 회원이 저장한 카드를 최근에 저장한 순서로 하나씩 카드 내용을 채워 전달합니다.
+     * 커서로 EXPORT_PAGE_SIZE장씩 나눠 읽고, 페이지마다 짧은 읽기 전용 트랜잭션을 씁니다.
+     * 트랜잭션을 끝낸 뒤에 action을 실행하므로 응답을 느리게 받는 클라이언트가 데이터베이스 연결을 잡고 있지 않고,
+     * 한 페이지씩만 메모리에 올리므로 보관함이 커도 메모리 사용량이 일정합니다.
+     *
+     * @param userId 회원 식별자
+     * @param action 카드마다 실행할 작업
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachCardDetail(Long userId, Consumer<InventoryResultData> action) {
+        Long cursor = null;
+
+        while (true) {
+            Long pageCursor = cursor;
+            List<Inventory> page = readOnlyTransactionTemplate.execute(status ->
+                    inventoryRepository.findByUserId(userId, pageCursor, EXPORT_PAGE_SIZE));
+
+            page.stream()
+                    .map(this::getInventoryData)
+                    .forEach(action);
+
+            if (page.size() < EXPORT_PAGE_SIZE) {
+                return;
+            }
+            cursor = page.get(page.size() - 1).getInventoryId();
+        }
+    }
+
+    /**
+     * 전달된 회원의 보관함을 카테고리별, 카드별 저장 횟수로 요약합니다.
+     * 보관함 카드를 읽지 않고 카드별 집계 결과만 읽어, 카테고리별 횟수는 카드 목록으로 합산합니다.
+     *
+     * @param userId 회원 식별자
+     * @return 전체 저장 횟수, 마지막 저장 시각, 카테고리별 횟수, 많이 저장한 순서의 카드별 횟수
+     */
+    @Transactional(readOnly = true)
+    public InventorySummaryData getSummary(Long userId) {
+        List<InventoryCardSummaryData> cards = inventoryRepository.countByCardId(userId).stream()
+                .map(this::getCardSummaryData)
+                .sorted(Comparator.comparingLong(InventoryCardSummaryData::getCount).reversed()
+                        .thenComparing(InventoryCardSummaryData::getCardId))
+                .collect(Collectors.toList());
+
+        Map<String, Long> categoryCounts = cards.stream()
+                .filter(card -> card.getCardCategory() != null)
+                .collect(Collectors.groupingBy(InventoryCardSummaryData::getCardCategory,
+                        TreeMap::new,
+                        Collectors.summingLong(InventoryCardSummaryData::getCount)));
+
+        return InventorySummaryData.builder()
+                .totalCount(cards.stream().mapToLong(InventoryCardSummaryData::getCount).sum())
+                .lastSavedAt(cards.stream()
+                        .map(InventoryCardSummaryData::getLastSavedAt)
+                        .filter(Objects::nonNull)
+                        .max(Comparator.naturalOrder())
+                        .orElse(null))
+                .categories(categoryCounts.entrySet().stream()
+                        .map(entry -> InventoryCategorySummaryData.builder()
+                                .cardCategory(entry.getKey())
+                                .count(entry.getValue())
+                                .build())
+                        .collect(Collectors.toList()))
+                .cards(cards)
+                .build();
+    }
+
+    /**
+     * 전달된 회원의 보관함에서 전달된 식별자에 해당하는 카드를 삭제합니다.
+     *
+     * @param userId      인증된 회원 식별자
+     * @param inventoryId 삭제할 보관함 식별자. 다른 회원의 카드는 삭제되지 않습니다.
+     */
+    public void deleteCardDetail(Long userId, Long inventoryId){
+        inventoryRepository.deleteAllByUserId(userId, List.of(inventoryId));
+        inventoryCache.evict(userId);
+        inventorySearchIndex.remove(userId, List.of(inventoryId));
+    }
+
+    /**
+     * 전달된 회원의 보관함에서 전달된 식별자에 해당하는 카드를 한 번에 삭제합니다.
+     *
+     * @param userId       인증된 회원 식별자
+     * @param inventoryIds 삭제할 보관함 식별자 목록
+     * @return 삭제된 개수. 다른 회원의 카드는 삭제되지 않습니다.
+     */
+    public InventoryDeleteResultData deleteCardDetails(Long userId, List<Long> inventoryIds) {
+        InventoryDeleteResultData result = InventoryDeleteResultData.builder()
+                .deletedCount(inventoryRepository.deleteAllByUserId(userId, inventoryIds))
+                .build();
+        inventoryCache.evict(userId);
+        inventorySearchIndex.remove(userId, inventoryIds);
+        return result;
+    }
+
+    /**
+     * 전달된 회원의 보관함을 비웁니다.
+     *
+     * @param userId 인증된 회원 식별자
+     * @return 삭제된 개수
+     */
+    public InventoryDeleteResultData deleteAllCardDetails(Long userId) {
+        InventoryDeleteResultData result = InventoryDeleteResultData.builder()
+                .deletedCount(inventoryRepository.deleteAllByUserId(userId))
+                .build();
+        inventoryCache.evict(userId);
+        inventorySearchIndex.evict(userId);
+        return result;
+    }
+
+    private List<InventoryResultData> findInventoryData(Long userId, Long cursor, int limit) {
+        return inventoryRepository.findByUserId(userId, cursor, limit).stream()
+                .map(this::getInventoryData)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * 최근 카드 목록에서 커서 다음의 카드를 최대 limit개 잘라 리턴합니다.
+     * 최근 카드 목록이 잘려 있어 limit개를 채울 수 없으면 비어 있는 Optional을 리턴합니다.
+     */
+    private Optional<List<InventoryResultData>> slice(List<InventoryResultData> recent,
+                                                      Long cursor, int limit) {
+        int from = 0;
+        if (cursor != null) {
+            while (from < recent.size() && recent.get(from).getInventoryId() >= cursor) {
+                from++;
+            }
+        }
+
+        int to = from + limit;
+        boolean complete = recent.size() < RECENT_INVENTORY_SIZE;
+        if (to > recent.size() && !complete) {
+            return Optional.empty();
+        }
+        return Optional.of(recent.subList(from, Math.min(to, recent.size())));
     }
 
-    public Inventory saveCardDetail(InventorySaveData inventorySaveData,
-                                    Long userId) throws AccessDeniedException {
+    private InventoryCardSummaryData getCardSummaryData(InventoryCardCount cardCount) {
+        Optional<Card> card = cardRepository.findById(cardCount.getCardId());
 
-        return inventoryRepository.save(
-                mapper.map(inventorySaveData, Inventory.class));
+        return InventoryCardSummaryData.builder()
+                .cardId(cardCount.getCardId())
+                .cardCategory(card.map(Card::getCardCategory).orElse(null))
+                .cardTitle(card.map(Card::getCardTitle).orElse(null))
+                .count(cardCount.getCount())
+                .lastSavedAt(cardCount.getLastSavedAt())
+                .build();
     }
 
-    public List<Inventory> findCardListWithUserId(Long userId) {
-        return inventoryRepository.findByUserId(userId);
+    private InventoryResultData getInventoryData(Inventory inventory) {
+        return getInventoryData(inventory,
+                cardRepository.findById(inventory.getCardId()));
     }
 
-    public void deleteCardDetail(Long inventoryId){
-        inventoryRepository.delete(inventoryId);
+    private InventoryResultData getInventoryData(Inventory inventory,
+                                                 Optional<Card> card) {
+        return InventoryResultData.builder()
+                .inventoryId(inventory.getInventoryId())
+                .cardId(inventory.getCardId())
+                .userInputSubject(inventory.getUserInputSubject())
+                .cardCategory(card.map(Card::getCardCategory).orElse(null))
+                .cardImageUrl(card.map(Card::getCardImageUrl).orElse(null))
+                .cardTitle(card.map(Card::getCardTitle).orElse(null))
+                .cardDetail(card.map(Card::getCardDetail).orElse(null))
+                .savedAt(inventory.getSavedAt())
+                .build();
     }
 }
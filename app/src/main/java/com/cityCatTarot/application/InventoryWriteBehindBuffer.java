@@ -0,0 +1,264 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.Inventory;
+import com.cityCatTarot.domain.InventoryRepository;
+import com.cityCatTarot.errors.InventoryWriteBufferFullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 보관함 저장 요청을 대기열에 모았다가 백그라운드에서 배치로 저장합니다.
+ *
+ * inventory.write-behind.enabled=true일 때만 사용되며, 저장 요청은 식별자만 할당받고 바로 응답합니다.
+ * 저장된 카드는 배치가 저장된 뒤부터 목록과 검색 결과에 보입니다.
+ *
+ * 식별자를 돌려준 카드는 버리지 않습니다. 데이터베이스 장애처럼 일시적인 실패는 간격을 두 배씩 늘려가며
+ * 성공할 때까지 다시 시도하고, 그동안은 새 저장 요청을 거절합니다.
+ * 제약 조건 위반처럼 데이터 때문에 실패한 배치는 반씩 나눠 다시 저장해, 문제가 되는 카드만 inventory_dead_letter에 남깁니다.
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.write-behind.enabled", havingValue = "true")
+public class InventoryWriteBehindBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryWriteBehindBuffer.class);
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryCache inventoryCache;
+    private final InventorySearchIndex inventorySearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final BlockingQueue<Inventory> queue;
+    private final Thread worker;
+
+    /**
+     * enqueue는 읽기 잠금을 잡은 채로 running을 확인하고 대기열에 넣고, shutdown은 쓰기 잠금을 잡고 running을 끕니다.
+     * 그래서 running이 꺼진 뒤에는 대기열에 새 카드가 들어가지 않고, 작업 스레드의 마지막 비우기가 모든 카드를 저장합니다.
+     */
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running = true;
+
+    /**
+     * 마지막 저장이 일시적인 실패로 끝났으면 true. 이 동안에는 새 저장 요청을 받지 않습니다.
+     */
+    private volatile boolean failing = false;
+
+    private volatile long shutdownDeadline;
+
+    public InventoryWriteBehindBuffer(
+            InventoryRepository inventoryRepository,
+            InventoryCache inventoryCache,
+            InventorySearchIndex inventorySearchIndex,
+            PlatformTransactionManager transactionManager,
+            @Value("${inventory.write-behind.capacity:10000}") int capacity,
+            @Value("${inventory.write-behind.batch-size:50}") int batchSize,
+            @Value("${inventory.write-behind.flush-interval-millis:100}") long flushIntervalMillis,
+            @Value("${inventory.write-behind.initial-backoff-millis:100}") long initialBackoffMillis,
+            @Value("${inventory.write-behind.max-backoff-millis:10000}") long maxBackoffMillis,
+            @Value("${inventory.write-behind.shutdown-timeout-millis:30000}") long shutdownTimeoutMillis) {
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryCache = inventoryCache;
+        this.inventorySearchIndex = inventorySearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::run, "inventory-write-behind");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * 보관함 카드에 식별자를 할당하고 저장 대기열에 넣습니다.
+     *
+     * @param inventory 저장할 보관함 카드. 식별자는 비어 있어야 합니다.
+     * @return 식별자가 할당된 보관함 카드
+     * @throws InventoryWriteBufferFullException 대기열이 가득 찼거나, 저장이 실패하고 있거나, 종료 중인 경우
+     */
+    public Inventory enqueue(Inventory inventory) {
+        if (!running || failing) {
+            throw new InventoryWriteBufferFullException(capacity);
+        }
+
+        Inventory identified = Inventory.builder()
+                .inventoryId(inventoryRepository.nextInventoryId())
+                .userId(inventory.getUserId())
+                .cardId(inventory.getCardId())
+                .userInputSubject(inventory.getUserInputSubject())
+                .savedAt(inventory.getSavedAt())
+                .build();
+
+        stateLock.readLock().lock();
+        try {
+            if (!running || !queue.offer(identified)) {
+                throw new InventoryWriteBufferFullException(capacity);
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        return identified;
+    }
+
+    /**
+     * 새 요청을 받지 않고, 대기열에 남은 카드를 모두 저장할 때까지 기다립니다.
+     * 저장이 계속 실패하면 종료 제한 시간까지만 다시 시도하고, 남은 카드는 다시 넣을 수 있도록 내용을 모두 로그에 남깁니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stateLock.writeLock().lock();
+        try {
+            shutdownDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        worker.join();
+    }
+
+    private void run() {
+        List<Inventory> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                Inventory first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<Inventory> batch) {
+        write(List.copyOf(batch));
+        batch.clear();
+    }
+
+    /**
+     * 전달된 카드를 한 트랜잭션으로 저장하고, 저장된 카드만 캐시에서 비우고 검색 색인에 더합니다.
+     * 데이터 때문에 실패하면 반씩 나눠 다시 저장하고, 한 장만 남았을 때 실패하면 그 카드를 dead letter로 남깁니다.
+     */
+    private void write(List<Inventory> inventories) {
+        try {
+            if (!executeWithRetry(() -> inventoryRepository.insertAll(inventories), inventories.size())) {
+                logLost(inventories);
+                return;
+            }
+        } catch (DataIntegrityViolationException e) {
+            if (inventories.size() == 1) {
+                deadLetter(inventories.get(0), e);
+                return;
+            }
+
+            int half = inventories.size() / 2;
+            write(inventories.subList(0, half));
+            write(inventories.subList(half, inventories.size()));
+            return;
+        }
+
+        inventories.forEach(inventory -> inventoryCache.evict(inventory.getUserId()));
+        inventorySearchIndex.add(inventories);
+    }
+
+    private void deadLetter(Inventory inventory, DataIntegrityViolationException cause) {
+        log.error("Moving inventory {} to inventory_dead_letter", inventory.getInventoryId(), cause);
+
+        try {
+            if (!executeWithRetry(() -> inventoryRepository.insertDeadLetter(
+                    inventory, String.valueOf(cause.getMostSpecificCause().getMessage())), 1)) {
+                logLost(List.of(inventory));
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Inventory {} is already in inventory_dead_letter", inventory.getInventoryId(), e);
+        }
+    }
+
+    /**
+     * 작업을 트랜잭션 안에서 실행합니다.
+     * 데이터 때문에 실패하면 DataIntegrityViolationException을 그대로 던지고, 그 밖의 실패는 간격을 두 배씩 늘려가며
+     * 성공할 때까지 다시 시도합니다. 종료 제한 시간이 지나 포기하면 false를 리턴합니다.
+     */
+    private boolean executeWithRetry(Runnable work, int size) {
+        long backoffMillis = initialBackoffMillis;
+
+        while (true) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> work.run());
+                failing = false;
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                failing = false;
+                throw e;
+            } catch (RuntimeException e) {
+                failing = true;
+                if (shutdownTimedOut()) {
+                    log.error("Gave up writing {} inventories after the shutdown timeout", size, e);
+                    return false;
+                }
+                log.warn("Failed to write {} inventories, retrying in {}ms", size, backoffMillis, e);
+            }
+
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while retrying to write {} inventories", size);
+                return false;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+        }
+    }
+
+    private boolean shutdownTimedOut() {
+        return !running && System.nanoTime() - shutdownDeadline > 0;
+    }
+
+    /**
+     * 저장하지 못하고 종료하는 카드를 다시 넣을 수 있도록 내용을 모두 로그에 남깁니다.
+     */
+    private void logLost(List<Inventory> inventories) {
+        inventories.forEach(inventory -> log.error(
+                "Unsaved inventory: id={}, userId={}, cardId={}, savedAt={}, userInputSubject={}",
+                inventory.getInventoryId(), inventory.getUserId(), inventory.getCardId(),
+                inventory.getSavedAt(), inventory.getUserInputSubject()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.UserRepository;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원별 권한 버전을 보관합니다.
+ *
+ * 토큰에 담긴 권한 버전과 비교해 권한이 바뀐 뒤의 토큰을 거절하는 데 쓰입니다.
+ * 다른 서버에서 바뀐 권한은 보관 시간이 지나야 반영되므로 보관 시간을 짧게 둡니다.
+ */
+@Component
+public class RolesVersionCache implements MeterBinder {
+
+    /**
+     * 존재하지 않거나 탈퇴 처리되어 조회되지 않는 회원의 권한 버전.
+     */
+    public static final long UNKNOWN_USER = -1L;
+
+    private static final String CACHE_NAME = "user.roles.version";
+
+    private final LoadingCache<Long, Long> rolesVersions;
+
+    public RolesVersionCache(
+            UserRepository userRepository,
+            @Value("${auth.roles-version.maximum-size:10000}") long maximumSize,
+            @Value("${auth.roles-version.expire-after-write-seconds:30}") long expireAfterWriteSeconds) {
+        this.rolesVersions = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build(CacheLoader.from(userId ->
+                        userRepository.findRolesVersion(userId).orElse(UNKNOWN_USER)));
+    }
+
+    /**
+     * 전달된 회원의 현재 권한 버전을 리턴합니다. 없으면 저장소에서 읽어 보관합니다.
+     *
+     * @param userId 회원 식별자
+     * @return 권한 버전. 회원이 없으면 UNKNOWN_USER
+     */
+    public long get(Long userId) {
+        return rolesVersions.getUnchecked(userId);
+    }
+
+    /**
+     * 전달된 회원의 권한 버전을 비웁니다.
+     * 트랜잭션 안에서 호출되면 커밋 직후에 한 번 더 비워, 커밋 전에 다시 읽힌 버전이 남지 않게 합니다.
+     *
+     * @param userId 회원 식별자
+     */
+    public void evict(Long userId) {
+        rolesVersions.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronizationAdapter() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            rolesVersions.invalidate(userId);
+                        }
+                    });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, rolesVersions, CACHE_NAME);
+    }
+}
@@ -5,16 +5,26 @@ import com.cityCatTarot.domain.RoleRepository;
 import com.cityCatTarot.domain.User;
 import com.cityCatTarot.domain.UserRepository;
 import com.cityCatTarot.dto.UserModificationData;
+import com.cityCatTarot.dto.UserPageData;
 import com.cityCatTarot.dto.UserRegistrationData;
+import com.cityCatTarot.dto.UserResultData;
+import com.cityCatTarot.errors.PasswordHashingBusyException;
 import com.cityCatTarot.errors.UserEmailDuplicationException;
 import com.cityCatTarot.errors.UserNotFoundException;
 import com.github.dozermapper.core.Mapper;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * 회원에 관한 비즈니스 로직을 담당합니다.
@@ -22,43 +32,93 @@ import java.util.List;
 @Service
 @Transactional
 public class UserService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
     private final Mapper mapper;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final RolesVersionCache rolesVersionCache;
+    private final TaskExecutor taskExecutor;
 
     public UserService(Mapper dozerMapper,
                        UserRepository userRepository,
                        RoleRepository roleRepository,
-                       PasswordEncoder passwordEncoder) {
+                       PasswordEncoder passwordEncoder,
+                       EmailBloomFilter emailBloomFilter,
+                       PasswordHasher passwordHasher,
+                       PlatformTransactionManager transactionManager,
+                       RolesVersionCache rolesVersionCache,
+                       TaskExecutor taskExecutor) {
         this.mapper = dozerMapper;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.emailBloomFilter = emailBloomFilter;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.rolesVersionCache = rolesVersionCache;
+        this.taskExecutor = taskExecutor;
     }
 
     /**
      * 전달된 회원 정보로 회원을 생성한 뒤, 그 회원을 리턴합니다.
+     * 비밀번호는 비밀번호 해시 스레드 풀에서 암호화하고, 회원 저장은 해시 스레드를 잡아두지 않도록
+     * 애플리케이션 작업 스레드 풀의 새 트랜잭션에서 실행합니다.
      *
      * @param registrationData 회원 정보
      * @return 생성된 회원
-     * @throws UserEmailDuplicationException 이메일이 중복된 경우
+     * @throws UserEmailDuplicationException 이메일이 중복된 경우. 같은 이메일로 동시에 가입해 저장 중에 중복이 확인된 경우도 포함합니다.
+     * @throws PasswordHashingBusyException 비밀번호 해시 대기열이 가득 찬 경우
      */
-    public User registerUser(UserRegistrationData registrationData) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<User> registerUser(UserRegistrationData registrationData) {
         String email = registrationData.getEmail();
 
         if (userRepository.existsByEmail(email)) {
             throw new UserEmailDuplicationException(email);
         }
 
-        User user = userRepository.save(
-                mapper.map(registrationData, User.class));
+        return passwordHasher.encode(registrationData.getPassword())
+                .thenApplyAsync(encodedPassword -> insertUser(registrationData, encodedPassword),
+                        taskExecutor);
+    }
 
-        user.changePassword(registrationData.getPassword(), passwordEncoder);
+    /**
+     * 새 트랜잭션에서 회원을 저장합니다.
+     * 중복 확인 뒤에 같은 이메일의 회원이 먼저 저장되어 uk_user_email을 위반했다면 이메일 중복으로 처리하고,
+     * 그 밖의 제약 조건 위반은 그대로 던집니다.
+     */
+    private User insertUser(UserRegistrationData registrationData, String encodedPassword) {
+        try {
+            return transactionTemplate.execute(
+                    status -> saveUser(registrationData, encodedPassword));
+        } catch (DataIntegrityViolationException e) {
+            String email = registrationData.getEmail();
+            if (userRepository.existsByEmail(email)) {
+                throw new UserEmailDuplicationException(email);
+            }
+            throw e;
+        }
+    }
 
-        roleRepository.save(new Role(user.getId(), "USER"));
+    private User saveUser(UserRegistrationData registrationData, String encodedPassword) {
+        User user = mapper.map(registrationData, User.class);
+        user.changeEncodedPassword(encodedPassword);
 
-        return user;
+        User saved = userRepository.save(user);
+
+        roleRepository.save(new Role(saved.getId(), "USER"));
+        emailBloomFilter.put(saved.getEmail());
+
+        return saved;
     }
 
     /**
@@ -86,12 +146,14 @@ public class UserService {
 
     /**
      * 전달된 식별자에 해당하는 회원을 삭제합니다.
+     * 삭제된 회원에게 발급된 토큰은 더 이상 인증되지 않습니다.
      *
      * @param id 회원 식별자
      */
     public User deleteUser(Long id) {
         User user = findUser(id);
         user.destroy();
+        rolesVersionCache.evict(id);
         return user;
     }
 
@@ -106,19 +168,80 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
-    public List<User> getUsers() {
-        return userRepository.findAll();
+    /**
+     * 전달된 커서 다음의 회원 응답 정보를 식별자 순서로 한 페이지 리턴합니다.
+     *
+     * @param cursor 직전 페이지의 마지막 회원 식별자. 첫 페이지는 null
+     * @param size   페이지 크기. 1 이상 100 이하로 조정됩니다.
+     */
+    @Transactional(readOnly = true)
+    public UserPageData getUsers(Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<UserResultData> users = userRepository.findUserResultData(cursor, pageSize + 1);
+
+        boolean hasNext = users.size() > pageSize;
+        List<UserResultData> page = hasNext ? users.subList(0, pageSize) : users;
+
+        return UserPageData.builder()
+                .users(page)
+                .nextCursor(hasNext ? page.get(pageSize - 1).getId() : null)
+                .build();
     }
 
-    public User findUserInfoData(Long id){
-        return userRepository.findById(id)
+    /**
+     * 전체 회원의 응답 정보를 식별자 순서로 하나씩 전달합니다.
+     * 커서로 EXPORT_PAGE_SIZE명씩 나눠 읽고 페이지마다 짧은 읽기 전용 트랜잭션을 쓰므로,
+     * 응답을 느리게 받는 클라이언트가 데이터베이스 연결을 잡고 있지 않고 메모리 사용량도 일정합니다.
+     *
+     * @param consumer 회원 응답 정보를 받을 함수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachUser(Consumer<UserResultData> consumer) {
+        Long cursor = null;
+
+        while (true) {
+            Long pageCursor = cursor;
+            List<UserResultData> page = readOnlyTransactionTemplate.execute(status ->
+                    userRepository.findUserResultData(pageCursor, EXPORT_PAGE_SIZE));
+
+            page.forEach(consumer);
+
+            if (page.size() < EXPORT_PAGE_SIZE) {
+                return;
+            }
+            cursor = page.get(page.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 전달된 식별자에 해당하는 회원의 응답 정보를 리턴합니다.
+     *
+     * @param id 회원 식별자
+     * @throws UserNotFoundException 회원을 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public UserResultData findUserInfoData(Long id){
+        return userRepository.findUserResultDataById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
     }
 
+    /**
+     * 전달된 이메일로 가입할 수 있으면 true를 리턴합니다.
+     * 블룸 필터에 없는 이메일은 데이터베이스를 조회하지 않고 바로 true를 리턴합니다.
+     *
+     * @param email 이메일
+     */
+    @Transactional(readOnly = true)
     public boolean emailDuplicationCheck(String email){
+        if (!emailBloomFilter.mightContain(email)) {
+            return true;
+        }
+
         if (userRepository.existsByEmail(email)) {
             return false;
         }
+        emailBloomFilter.recordFalsePositive();
         return true;
     }
 }
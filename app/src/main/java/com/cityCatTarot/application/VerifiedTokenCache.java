@@ -0,0 +1,109 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.Role;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 최근에 검증한 인증 토큰의 회원 식별자, 권한, 권한 버전을 보관합니다.
+ *
+ * 토큰 원문 대신 SHA-256 값을 키로 쓰며, 개수와 보관 후 경과 시간으로 비웁니다.
+ * 보관된 토큰은 서명 검증과 클레임 파싱 없이 읽히며, 권한이 바뀌었는지는 권한 버전으로 따로 확인합니다.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "jwt.verified";
+
+    private final Clock clock;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public VerifiedTokenCache(
+            Clock clock,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.cache.expire-after-write-minutes:5}") long expireAfterWriteMinutes) {
+        this.clock = clock;
+        this.verifiedTokens = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 전달된 토큰의 검증 결과를 리턴합니다. 없거나 토큰이 만료되었으면 verifier로 검증해 보관합니다.
+     * verifier가 던진 예외는 그대로 전달되며, 검증에 실패한 토큰은 보관하지 않습니다.
+     *
+     * @param token    인증 토큰
+     * @param verifier 토큰을 검증하는 함수
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        String key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !cached.isExpiredAt(clock.instant())) {
+            return cached;
+        }
+
+        VerifiedToken verified = verifier.apply(token);
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, verifiedTokens, CACHE_NAME);
+    }
+
+    /**
+     * 검증된 토큰의 회원 식별자, 권한, 권한 버전.
+     */
+    public static final class VerifiedToken {
+        private final Long userId;
+        private final List<Role> roles;
+        private final long rolesVersion;
+        private final Instant expiresAt;
+
+        /**
+         * @param userId       회원 식별자
+         * @param roles        토큰에 담긴 회원 권한 목록
+         * @param rolesVersion 토큰에 담긴 권한 버전
+         * @param expiresAt    토큰 만료 시각. 만료 시각이 없는 토큰은 null
+         */
+        public VerifiedToken(Long userId, List<Role> roles, long rolesVersion, Instant expiresAt) {
+            this.userId = userId;
+            this.roles = List.copyOf(roles);
+            this.rolesVersion = rolesVersion;
+            this.expiresAt = expiresAt;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public List<Role> getRoles() {
+            return roles;
+        }
+
+        public long getRolesVersion() {
+            return rolesVersion;
+        }
+
+        private boolean isExpiredAt(Instant now) {
+            return expiresAt != null && !now.isBefore(expiresAt);
+        }
+    }
+}
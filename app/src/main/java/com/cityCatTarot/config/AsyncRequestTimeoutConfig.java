@@ -0,0 +1,57 @@
+package com.cityCatTarot.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.Callable;
+
+/**
+ * 비동기 요청의 제한 시간을 요청마다 다르게 설정합니다.
+ *
+ * 비동기 요청은 spring.mvc.async.request-timeout의 짧은 기본값을 쓰고,
+ * 내보내기처럼 오래 걸리는 스트리밍 응답만 markLongRunning으로 표시해 더 긴 제한 시간을 씁니다.
+ */
+@Configuration
+public class AsyncRequestTimeoutConfig implements WebMvcConfigurer {
+
+    private static final String LONG_RUNNING_ATTRIBUTE =
+            AsyncRequestTimeoutConfig.class.getName() + ".LONG_RUNNING";
+
+    private final long longRunningTimeoutMillis;
+
+    public AsyncRequestTimeoutConfig(
+            @Value("${export.async.request-timeout-millis:600000}") long longRunningTimeoutMillis) {
+        this.longRunningTimeoutMillis = longRunningTimeoutMillis;
+    }
+
+    /**
+     * 전달된 요청의 비동기 응답에 긴 제한 시간을 적용하도록 표시합니다.
+     * 핸들러가 비동기 응답을 리턴하기 전에 호출해야 합니다.
+     *
+     * @param request 현재 요청
+     */
+    public static void markLongRunning(HttpServletRequest request) {
+        request.setAttribute(LONG_RUNNING_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                if (request instanceof AsyncWebRequest
+                        && request.getAttribute(LONG_RUNNING_ATTRIBUTE,
+                        RequestAttributes.SCOPE_REQUEST) != null) {
+                    ((AsyncWebRequest) request).setTimeout(longRunningTimeoutMillis);
+                }
+            }
+        });
+    }
+}
@@ -1,18 +1,24 @@
 package com.cityCatTarot.controllers;
 
 import com.cityCatTarot.application.CardService;
-import com.cityCatTarot.domain.Card;
+import com.cityCatTarot.dto.CardDrawRequestData;
+import com.cityCatTarot.dto.CardDrawResultData;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import javax.validation.Valid;
 
 /**
  * 카드에 대한 HTTP 요청 처리를 담당합니다.
+ *
+ * 카드 응답은 미리 직렬화된 JSON을 그대로 내려주며, If-None-Match 요청에는 304로 응답합니다.
  */
 @RestController
 @RequestMapping("/tarotChat")
@@ -20,29 +26,66 @@ import java.util.List;
 public class CardController {
 
     private final CardService cardService;
+    private final CardResponseCache cardResponseCache;
 
-    public CardController(CardService cardService) {
+    public CardController(CardService cardService,
+                          CardResponseCache cardResponseCache) {
         this.cardService = cardService;
+        this.cardResponseCache = cardResponseCache;
     }
 
     /**
      * 모든 카드를 응답합니다.
      */
     @GetMapping(produces = "application/json; charset=UTF8")
-    public List<Card> list() {
-        return cardService.getCards();
+    public ResponseEntity<byte[]> list() {
+        return cardResponseCache.list(cardService.getCards()).toResponseEntity();
     }
 
     /**
-     * 전달된 식별자에 해당하는 카드정보를 응답합니다.
+     * 전달된 카테고리에 속한 카드를 응답합니다.
      *
-     * @param
-     * @return 전달된 식별자에 해당하는 카드
+     * @param cardCategory 카드 카테고리
+     * @return 카테고리에 속한 카드 목록
+     */
+    @GetMapping(path = "/{cardCategory}", produces = "application/json; charset=UTF8")
+    public ResponseEntity<byte[]> listByCategory(
+            @PathVariable(name = "cardCategory") String cardCategory) {
+
+        return cardResponseCache.list(
+                cardCategory, cardService.getCardsByCategory(cardCategory))
+                .toResponseEntity();
+    }
+
+    /**
+     * 전달된 카테고리와 식별자에 해당하는 카드정보를 응답합니다.
+     *
+     * @param cardCategory 카드 카테고리
+     * @param cardId 카드 식별자
+     * @return 전달된 카테고리와 식별자에 해당하는 카드
      */
     @GetMapping(path = "/{cardCategory}/{cardId}", produces = "application/json; charset=UTF8")
-    public Card detail(@PathVariable (name = "cardCategory") String cardCategory,
-                       @PathVariable (name = "cardId") Long cardId) {
+    public ResponseEntity<byte[]> detail(@PathVariable (name = "cardCategory") String cardCategory,
+                                         @PathVariable (name = "cardId") Long cardId) {
 
-        return cardService.getCard(cardId);
+        return cardResponseCache.card(
+                cardService.getCard(cardCategory, cardId))
+                .toResponseEntity();
+    }
+
+    /**
+     * 요청한 배열법에 필요한 장수만큼 서로 다른 카드를 뽑아 한 번에 응답합니다.
+     *
+     * @param drawRequestData 카드 뽑기 요청 정보
+     * @return 뽑은 카드 목록
+     */
+    @PostMapping(path = "/draw", produces = "application/json; charset=UTF8")
+    public CardDrawResultData draw(@RequestBody @Valid CardDrawRequestData drawRequestData) {
+        return CardDrawResultData.builder()
+                .spread(drawRequestData.getSpread())
+                .cards(cardService.drawCards(
+                        drawRequestData.getCardCategory(),
+                        drawRequestData.getSpread().getCardCount()))
+                .build();
     }
 }
@@ -0,0 +1,138 @@
+package com.cityCatTarot.controllers;
+
+import com.cityCatTarot.domain.Card;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 카드 응답을 미리 직렬화한 UTF-8 JSON과 ETag로 보관합니다.
+ *
+ * 카드 목록은 바뀌지 않으므로 같은 카드 객체에 대해서는 한 번 만든 응답을 그대로 재사용합니다.
+ */
+@Component
+public class CardResponseCache {
+
+    private static final String ALL_CARDS = "";
+
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<Long, RenderedJson> cards = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RenderedJson> cardLists = new ConcurrentHashMap<>();
+
+    public CardResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 전달된 카드의 직렬화된 응답을 리턴합니다.
+     *
+     * @param card 카드
+     * @return 직렬화된 카드 응답
+     */
+    public RenderedJson card(Card card) {
+        RenderedJson cached = cards.get(card.getCardId());
+        if (cached != null && cached.isRenderedFrom(card)) {
+            return cached;
+        }
+
+        RenderedJson rendered = render(card);
+        cards.put(card.getCardId(), rendered);
+        return rendered;
+    }
+
+    /**
+     * 전달된 전체 카드 목록의 직렬화된 응답을 리턴합니다.
+     *
+     * @param cardList 전체 카드 목록
+     * @return 직렬화된 카드 목록 응답
+     */
+    public RenderedJson list(List<Card> cardList) {
+        return list(ALL_CARDS, cardList);
+    }
+
+    /**
+     * 전달된 카테고리 카드 목록의 직렬화된 응답을 리턴합니다.
+     * 존재하는 카테고리에 대해서만 호출해야 합니다.
+     *
+     * @param cardCategory 카드 카테고리
+     * @param cardList 카테고리에 속한 카드 목록
+     * @return 직렬화된 카드 목록 응답
+     */
+    public RenderedJson list(String cardCategory, List<Card> cardList) {
+        RenderedJson cached = cardLists.get(cardCategory);
+        if (cached != null && cached.isRenderedFrom(cardList)) {
+            return cached;
+        }
+
+        RenderedJson rendered = render(cardList);
+        cardLists.put(cardCategory, rendered);
+        return rendered;
+    }
+
+    private RenderedJson render(Object source) {
+        try {
+            return new RenderedJson(source, objectMapper.writeValueAsBytes(source));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 직렬화된 JSON 응답 본문과 그 ETag.
+     */
+    public static final class RenderedJson {
+        private static final MediaType JSON_UTF8 =
+                new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+
+        private final Object source;
+        private final byte[] body;
+        private final String etag;
+
+        private RenderedJson(Object source, byte[] body) {
+            this.source = source;
+            this.body = body;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        }
+
+        private boolean isRenderedFrom(Object other) {
+            return source == other;
+        }
+
+        /**
+         * 직렬화된 응답 본문을 리턴합니다. 리턴된 배열은 변경하면 안 됩니다.
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * 응답 본문에 대한 강한 ETag를 리턴합니다.
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * 직렬화된 응답을 ETag와 함께 응답합니다.
+         * 요청의 If-None-Match가 ETag와 일치하면 본문 없이 304로 응답됩니다.
+         */
+        public ResponseEntity<byte[]> toResponseEntity() {
+            return ResponseEntity.ok()
+                    .contentType(JSON_UTF8)
+                    .cacheControl(CacheControl.noCache())
+                    .eTag(etag)
+                    .body(body);
+        }
+    }
+}
@@ -2,11 +2,15 @@ package com.cityCatTarot.controllers;
 
 import com.cityCatTarot.dto.ErrorResponse;
 import com.cityCatTarot.errors.AccessDeniedException;
+import com.cityCatTarot.errors.CardCategoryNotFoundException;
 import com.cityCatTarot.errors.CardNotFoundException;
 import com.cityCatTarot.errors.EncoderFailException;
+import com.cityCatTarot.errors.InventoryWriteBufferFullException;
 import com.cityCatTarot.errors.LoginFailException;
 import com.cityCatTarot.errors.LoginFailWithNotFoundEmailException;
 import com.cityCatTarot.errors.LoginFailWithWrongPwException;
+import com.cityCatTarot.errors.NotEnoughCardsException;
+import com.cityCatTarot.errors.PasswordHashingBusyException;
 import com.cityCatTarot.errors.UserEmailDuplicationException;
 import com.cityCatTarot.errors.UserNotFoundException;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -28,6 +32,30 @@ public class ControllerErrorAdvice {
         return new ErrorResponse("Card not found.");
     }
 
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    @ExceptionHandler(CardCategoryNotFoundException.class)
+    public ErrorResponse handleCardCategoryNotFound() {
+        return new ErrorResponse("Card category not found.");
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(NotEnoughCardsException.class)
+    public ErrorResponse handleNotEnoughCards() {
+        return new ErrorResponse("Not enough cards to draw.");
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(InventoryWriteBufferFullException.class)
+    public ErrorResponse handleInventoryWriteBufferFull() {
+        return new ErrorResponse("Too many requests. Try again later.");
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ErrorResponse handlePasswordHashingBusy() {
+        return new ErrorResponse("Too many requests. Try again later.");
+    }
+
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(UserNotFoundException.class)
     public ErrorResponse handleUserNotFound() {
@@ -0,0 +1,48 @@
+package com.cityCatTarot.controllers;
+
+import com.cityCatTarot.application.DailyCardService;
+import com.cityCatTarot.security.UserAuthentication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 오늘의 카드에 대한 HTTP 요청 처리를 담당합니다.
+ */
+@RestController
+@RequestMapping("/daily-card")
+@CrossOrigin
+public class DailyCardController {
+
+    private final DailyCardService dailyCardService;
+    private final CardResponseCache cardResponseCache;
+
+    public DailyCardController(DailyCardService dailyCardService,
+                               CardResponseCache cardResponseCache) {
+        this.dailyCardService = dailyCardService;
+        this.cardResponseCache = cardResponseCache;
+    }
+
+    /**
+     * 인증된 회원의 카테고리별 오늘의 카드를 응답합니다.
+     *
+     * @param cardCategory 카드 카테고리
+     * @return 오늘의 카드
+     */
+    @GetMapping(path = "/{cardCategory}", produces = "application/json; charset=UTF8")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<byte[]> today(
+            @PathVariable(name = "cardCategory") String cardCategory,
+            UserAuthentication authentication) {
+
+        Long userId = authentication.getUserId();
+
+        return cardResponseCache.card(
+                dailyCardService.getDailyCard(userId, cardCategory))
+                .toResponseEntity();
+    }
+}
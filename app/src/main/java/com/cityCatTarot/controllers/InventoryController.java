@@ -2,11 +2,22 @@ package com.cityCatTarot.controllers;
 
 
 import com.cityCatTarot.application.InventoryService;
-import com.cityCatTarot.domain.Inventory;
+import com.cityCatTarot.config.AsyncRequestTimeoutConfig;
+import com.cityCatTarot.dto.InventoryBatchSaveData;
+import com.cityCatTarot.dto.InventoryDeleteData;
+import com.cityCatTarot.dto.InventoryDeleteResultData;
+import com.cityCatTarot.dto.InventoryPageData;
 import com.cityCatTarot.dto.InventoryResultData;
 import com.cityCatTarot.dto.InventorySaveData;
+import com.cityCatTarot.dto.InventorySummaryData;
 import com.cityCatTarot.security.UserAuthentication;
+import com.cityCatTarot.utils.NdjsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -16,9 +27,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
 import java.util.List;
 
 @RestController
@@ -26,55 +41,131 @@ import java.util.List;
 @RequestMapping(value = "/inventory", produces = "application/json; charset=UTF8")
 public class InventoryController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
     private InventoryService inventoryService;
+    private ObjectMapper objectMapper;
 
-    public InventoryController(InventoryService inventoryService) {
+    public InventoryController(InventoryService inventoryService,
+                               ObjectMapper objectMapper) {
         this.inventoryService = inventoryService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping(value="/post-card", produces = "application/json; charset=UTF8")
     @PreAuthorize("isAuthenticated()")
     @ResponseStatus(HttpStatus.CREATED)
     InventoryResultData create(
-            @RequestBody InventorySaveData inventorySaveData,
+            @RequestBody @Valid InventorySaveData inventorySaveData,
             UserAuthentication authentication
     ) throws AccessDeniedException {
         Long authenticatedUserId = authentication.getUserId();
 
-        Inventory inventory = inventoryService.saveCardDetail(inventorySaveData, authenticatedUserId);
-        return getInventoryData(inventory);
+        return inventoryService.saveCardDetail(inventorySaveData, authenticatedUserId);
     }
 
-    public InventoryResultData getInventoryData(Inventory inventory) {
-        if (inventory == null) {
-            return null;
-        }
-
-        return InventoryResultData.builder()
-                .inventoryId(inventory.getInventoryId())
-                .cardId(inventory.getCardId())
-                .cardCategory(inventory.getCardCategory())
-                .userInputSubject(inventory.getUserInputSubject())
-                .cardImageUrl(inventory.getCardImageUrl())
-                .cardTitle(inventory.getCardTitle())
-                .cardDetail(inventory.getCardDetail())
-                .build();
+    @PostMapping(value="/post-cards", produces = "application/json; charset=UTF8")
+    @PreAuthorize("isAuthenticated()")
+    @ResponseStatus(HttpStatus.CREATED)
+    List<InventoryResultData> createAll(
+            @RequestBody @Valid InventoryBatchSaveData inventoryBatchSaveData,
+            UserAuthentication authentication
+    ) throws AccessDeniedException {
+        Long authenticatedUserId = authentication.getUserId();
+
+        return inventoryService.saveCardDetails(
+                inventoryBatchSaveData.getInventories(), authenticatedUserId);
     }
 
     @GetMapping(value="/get-card/{userId}", produces = "application/json; charset=UTF8")
     @PreAuthorize("isAuthenticated()")
-    public List<Inventory> getCardList(
+    public InventoryPageData getCardList(
             @PathVariable Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
             UserAuthentication authentication)
             throws AccessDeniedException {
 
         Long authenticatedUserId = authentication.getUserId();
-        return inventoryService.findCardListWithUserId(authenticatedUserId);
+        return inventoryService.findCardListWithUserId(authenticatedUserId, cursor, size);
+    }
+
+    @GetMapping(value="/search", produces = "application/json; charset=UTF8")
+    @PreAuthorize("isAuthenticated()")
+    public List<InventoryResultData> search(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "20") int size,
+            UserAuthentication authentication) {
+        Long authenticatedUserId = authentication.getUserId();
+
+        return inventoryService.searchCardDetails(authenticatedUserId, query, size);
+    }
+
+    @GetMapping(value="/summary", produces = "application/json; charset=UTF8")
+    @PreAuthorize("isAuthenticated()")
+    public InventorySummaryData summary(UserAuthentication authentication) {
+        Long authenticatedUserId = authentication.getUserId();
+
+        return inventoryService.getSummary(authenticatedUserId);
+    }
+
+    /**
+     * 회원이 저장한 카드를 한 줄에 하나씩 JSON으로 내려받습니다.
+     * 카드를 읽는 대로 응답에 쓰므로 보관함 전체를 메모리에 올리지 않습니다.
+     * 스트리밍 응답에는 다른 비동기 요청보다 긴 제한 시간이 적용됩니다.
+     *
+     * @param gzip true면 gzip으로 압축한 파일로 응답합니다.
+     */
+    @GetMapping(value="/export", produces = {"application/x-ndjson", "application/gzip"})
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "false") boolean gzip,
+            UserAuthentication authentication,
+            HttpServletRequest request) {
+        Long authenticatedUserId = authentication.getUserId();
+        AsyncRequestTimeoutConfig.markLongRunning(request);
+
+        StreamingResponseBody body = outputStream -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream, gzip)) {
+                inventoryService.forEachCardDetail(authenticatedUserId, writer::write);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment")
+                        .filename(gzip ? "inventory.ndjson.gz" : "inventory.ndjson")
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @DeleteMapping(value="delete-card/{inventoryId}", produces = "application/json; charset=UTF8")
     @PreAuthorize("isAuthenticated()")
-    void deleteCard(@PathVariable Long inventoryId){
-        inventoryService.deleteCardDetail(inventoryId);
+    void deleteCard(@PathVariable Long inventoryId,
+                    UserAuthentication authentication){
+        Long authenticatedUserId = authentication.getUserId();
+
+        inventoryService.deleteCardDetail(authenticatedUserId, inventoryId);
+    }
+
+    @DeleteMapping(value="/delete-cards", produces = "application/json; charset=UTF8")
+    @PreAuthorize("isAuthenticated()")
+    public InventoryDeleteResultData deleteCards(
+            @RequestBody @Valid InventoryDeleteData inventoryDeleteData,
+            UserAuthentication authentication) {
+        Long authenticatedUserId = authentication.getUserId();
+
+        return inventoryService.deleteCardDetails(
+                authenticatedUserId, inventoryDeleteData.getInventoryIds());
+    }
+
+    @DeleteMapping(value="/delete-all-cards", produces = "application/json; charset=UTF8")
+    @PreAuthorize("isAuthenticated()")
+    public InventoryDeleteResultData deleteAllCards(UserAuthentication authentication) {
+        Long authenticatedUserId = authentication.getUserId();
+
+        return inventoryService.deleteAllCardDetails(authenticatedUserId);
     }
 }
@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 회원 인증과 관련된 HTTP 요청을 처리합니다.
  */
@@ -28,31 +30,24 @@ public class SessionController {
 
     /**
      * 전달된 회원 정보로 로그인하여 얻은 세션 정보를 응답합니다.
+     * 비밀번호 검증이 끝나면 비동기로 응답하므로 톰캣 스레드를 붙잡지 않습니다.
      *
      * @param sessionRequestData 회원 로그인 정보
      * @return 회원 세션 정보
      */
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public SessionResponseData login(
+    public CompletableFuture<SessionResponseData> login(
             @RequestBody SessionRequestData sessionRequestData
     ) throws LoginFailException {
 
         String email = sessionRequestData.getEmail();
         String password = sessionRequestData.getPassword();
 
-        try {
-            String accessToken = authenticationService.login(email, password);
-
-            Long userId = authenticationService.parseToken(accessToken);
-
-            return SessionResponseData.builder()
-                    .accessToken(accessToken)
-                    .userId(userId)
-                    .build();
-
-        } catch (LoginFailException e) {
-            return null;
-        }
+        return authenticationService.login(email, password)
+                .thenApply(accessToken -> SessionResponseData.builder()
+                        .accessToken(accessToken)
+                        .userId(authenticationService.parseToken(accessToken))
+                        .build());
     }
 }
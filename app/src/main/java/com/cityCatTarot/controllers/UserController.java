@@ -2,11 +2,20 @@ package com.cityCatTarot.controllers;
 
 import com.cityCatTarot.application.UserService;
 import com.cityCatTarot.domain.User;
+import com.cityCatTarot.config.AsyncRequestTimeoutConfig;
 import com.cityCatTarot.dto.UserModificationData;
+import com.cityCatTarot.dto.UserPageData;
 import com.cityCatTarot.dto.UserRegistrationData;
 import com.cityCatTarot.dto.UserResultData;
 import com.cityCatTarot.security.UserAuthentication;
+import com.cityCatTarot.utils.NdjsonWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -17,11 +26,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 회원에 대한 HTTP 요청 처리를 담당합니다.
@@ -31,23 +46,93 @@ import java.util.List;
 @RequestMapping(produces = "application/json; charset=UTF8")
 public class UserController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final MediaType JSON_UTF8 =
+            new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService,
+                          ObjectMapper objectMapper) {
         this.userService = userService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 관리자가 커서와 크기 없이 요청하면 예전처럼 전체 회원을 JSON 배열로 응답합니다.
+     * 배열은 회원을 한 명씩 읽는 대로 쓰므로 회원 수와 관계없이 메모리 사용량이 일정합니다.
+     */
+    @GetMapping(value= "/users", params = {"!cursor", "!size"}, produces = "application/json; charset=UTF8")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> listAll(HttpServletRequest request) {
+        AsyncRequestTimeoutConfig.markLongRunning(request);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.writeStartArray();
+                userService.forEachUser(user -> {
+                    try {
+                        generator.writeObject(user);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(JSON_UTF8)
+                .body(body);
     }
 
     /**
-     * 전체 회원을 리턴합니다.
+     * 관리자가 커서나 크기를 주면 전달된 커서 다음의 회원을 식별자 순서로 한 페이지 리턴합니다.
+     *
+     * @param cursor 직전 페이지의 nextCursor. 첫 페이지는 생략합니다.
+     * @param size   페이지 크기
      */
     @GetMapping(value= "/users", produces = "application/json; charset=UTF8")
-    public List<User> list() {
-        return userService.getUsers();
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public UserPageData list(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return userService.getUsers(cursor, size);
+    }
+
+    /**
+     * 관리자가 전체 회원을 한 줄에 한 명씩 NDJSON으로 내려받습니다.
+     * gzip이 true면 gzip으로 압축해 응답합니다.
+     * 스트리밍 응답에는 다른 비동기 요청보다 긴 제한 시간이 적용됩니다.
+     */
+    @GetMapping(value= "/users/export", produces = {"application/x-ndjson", "application/gzip"})
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest request) {
+        AsyncRequestTimeoutConfig.markLongRunning(request);
+
+        StreamingResponseBody body = outputStream -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream, gzip)) {
+                userService.forEachUser(writer::write);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment")
+                        .filename(gzip ? "users.ndjson.gz" : "users.ndjson")
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @GetMapping(value= "/users/{id}", produces = "application/json; charset=UTF8")
     @PreAuthorize("isAuthenticated()")
-    public User userInfo(@PathVariable Long id) {
+    public UserResultData userInfo(@PathVariable Long id) {
         return userService.findUserInfoData(id);
     }
 
@@ -59,9 +144,9 @@ public class UserController {
      */
     @PostMapping(value = "/register", produces = "application/json; charset=UTF8")
     @ResponseStatus(HttpStatus.CREATED)
-    UserResultData create(@RequestBody @Valid UserRegistrationData registrationData) {
-        User user = userService.registerUser(registrationData);
-        return getUserResultData(user);
+    CompletableFuture<UserResultData> create(@RequestBody @Valid UserRegistrationData registrationData) {
+        return userService.registerUser(registrationData)
+                .thenApply(this::getUserResultData);
     }
 
     /**
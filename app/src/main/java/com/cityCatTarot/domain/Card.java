@@ -4,7 +4,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -14,10 +13,11 @@ import javax.persistence.Id;
 
 /**
  * 카드 정보.
+ *
+ * CardCatalog가 모든 요청에 같은 인스턴스를 공유하므로 만든 뒤에는 바꿀 수 없습니다.
  */
 @Builder
 @Getter
-@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name="Card")
@@ -0,0 +1,88 @@
+package com.cityCatTarot.domain;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 변하지 않는 카드 목록.
+ *
+ * 카드 식별자와 카드 카테고리로 색인되어 있어 데이터베이스 없이 조회할 수 있습니다.
+ */
+public final class CardCatalog {
+
+    private static final CardCatalog EMPTY = new CardCatalog(List.of());
+
+    private final List<Card> cards;
+    private final Map<Long, Card> cardsById;
+    private final Map<String, List<Card>> cardsByCategory;
+
+    public CardCatalog(Collection<Card> cards) {
+        this.cards = cards.stream()
+                .sorted(Comparator.comparing(Card::getCardId))
+                .collect(Collectors.toUnmodifiableList());
+
+        this.cardsById = this.cards.stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Card::getCardId, Function.identity()));
+
+        this.cardsByCategory = this.cards.stream()
+                .filter(card -> Objects.nonNull(card.getCardCategory()))
+                .collect(Collectors.collectingAndThen(
+                        Collectors.groupingBy(Card::getCardCategory,
+                                Collectors.toUnmodifiableList()),
+                        Map::copyOf));
+    }
+
+    /**
+     * 비어있는 카드 목록을 리턴합니다.
+     */
+    public static CardCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 모든 카드를 식별자 순서대로 리턴합니다.
+     */
+    public List<Card> findAll() {
+        return cards;
+    }
+
+    /**
+     * 전달된 식별자에 해당하는 카드를 리턴합니다.
+     *
+     * @param cardId 카드 식별자
+     * @return 식별자에 해당하는 카드
+     */
+    public Optional<Card> findById(Long cardId) {
+        if (cardId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cardsById.get(cardId));
+    }
+
+    /**
+     * 전달된 카테고리에 속한 카드를 식별자 순서대로 리턴합니다.
+     *
+     * @param cardCategory 카드 카테고리
+     * @return 카테고리에 속한 카드 목록, 없으면 빈 목록
+     */
+    public List<Card> findAllByCategory(String cardCategory) {
+        if (cardCategory == null) {
+            return List.of();
+        }
+        return cardsByCategory.getOrDefault(cardCategory, List.of());
+    }
+
+    /**
+     * 카드 개수를 리턴합니다.
+     */
+    public int size() {
+        return cards.size();
+    }
+}
@@ -9,4 +9,5 @@ import java.util.Optional;
 public interface CardRepository {
     List<Card> findAll();
     Optional<Card> findById(Long cardId);
+    List<Card> findAllByCategory(String cardCategory);
 }
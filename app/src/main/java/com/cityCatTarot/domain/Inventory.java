@@ -4,26 +4,37 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
-import javax.persistence.JoinColumn;
-import javax.persistence.OneToMany;
-import java.util.ArrayList;
-import java.util.List;
-
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 보관함에 저장된 타로 결과.
+ *
+ * 카드 내용은 저장하지 않고 카드 식별자로 카드 목록을 참조합니다.
+ * 식별자는 inventory_sequence에서 여러 개씩 미리 할당받습니다.
+ */
 @Builder
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name="Inventory")
+@Table(indexes = @Index(name = "idx_inventory_user_id", columnList = "user_id, inventory_id"))
 public class Inventory {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "inventory_id_generator")
+    @GenericGenerator(
+            name = "inventory_id_generator",
+            strategy = "com.cityCatTarot.domain.PooledSequenceGenerator",
+            parameters = @Parameter(name = "sequence_name", value = "inventory_sequence"))
     @Column(name = "inventory_id")
     private Long inventoryId;
 
@@ -36,15 +47,6 @@ public class Inventory {
     @Column(name = "user_input_subject")
     private String userInputSubject;
 
-    @Column(name = "card_category")
-    private String cardCategory;
-
-    @Column(name = "card_image_url")
-    private String cardImageUrl;
-
-    @Column(name = "card_title")
-    private String cardTitle;
-
-    @Column(name = "card_detail")
-    private String cardDetail;
+    @Column(name = "saved_at")
+    private LocalDateTime savedAt;
 }
@@ -0,0 +1,20 @@
+package com.cityCatTarot.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원의 보관함에 카드별로 저장된 횟수와 마지막으로 저장한 시각.
+ */
+@Getter
+@AllArgsConstructor
+public class InventoryCardCount {
+
+    private Long cardId;
+
+    private Long count;
+
+    private LocalDateTime lastSavedAt;
+}
@@ -2,12 +2,85 @@ package com.cityCatTarot.domain;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * 보관함 저장소.
+ *
+ * 조회 메서드가 리턴하는 보관함 카드는 영속성 컨텍스트에 올라가지 않은 값이라, 변경해도 저장되지 않습니다.
+ */
 public interface InventoryRepository {
 
     Inventory save(Inventory inventory);
 
-    List<Inventory> findByUserId(Long userId);
+    /**
+     * 전달된 보관함 카드를 한 번에 저장합니다. 저장된 순서대로 식별자가 채워집니다.
+     *
+     * @param inventories 저장할 보관함 카드 목록
+     */
+    List<Inventory> saveAll(List<Inventory> inventories);
+
+    /**
+     * save와 같은 식별자 생성기로 보관함 식별자를 하나 할당합니다.
+     */
+    Long nextInventoryId();
+
+    /**
+     * 식별자가 이미 할당된 보관함 카드를 JDBC 배치 하나로 저장합니다.
+     *
+     * @param inventories nextInventoryId로 식별자를 할당한 보관함 카드 목록
+     */
+    void insertAll(List<Inventory> inventories);
+
+    /**
+     * 데이터 때문에 저장하지 못한 보관함 카드를 실패 사유와 함께 inventory_dead_letter에 남깁니다.
+     *
+     * @param inventory     저장하지 못한 보관함 카드
+     * @param failureReason 실패 사유
+     */
+    void insertDeadLetter(Inventory inventory, String failureReason);
+
+    /**
+     * 전달된 회원이 저장한 카드를 최근에 저장한 순서로, 커서보다 이전 것만 최대 limit개 리턴합니다.
+     *
+     * @param userId 회원 식별자
+     * @param cursor 이 식별자보다 작은 보관함 식별자만 조회합니다. null이면 처음부터 조회합니다.
+     * @param limit  최대 개수
+     */
+    List<Inventory> findByUserId(Long userId, Long cursor, int limit);
+
+    /**
+     * 전달된 회원이 저장한 카드를 최근에 저장한 순서로 하나씩 읽는 스트림을 리턴합니다.
+     * 트랜잭션 안에서 사용하고, 다 쓴 뒤에는 닫아야 합니다.
+     *
+     * @param userId 회원 식별자
+     */
+    Stream<Inventory> streamByUserId(Long userId);
 
     void delete(Long inventoryId);
+
+    /**
+     * 전달된 회원이 저장한 카드를 카드 식별자별로 모아, 저장 횟수와 마지막으로 저장한 시각을 리턴합니다.
+     *
+     * @param userId 회원 식별자
+     */
+    List<InventoryCardCount> countByCardId(Long userId);
+
+    /**
+     * 전달된 회원이 저장한 카드 중 전달된 식별자에 해당하는 카드를 한 번에 삭제합니다.
+     * 다른 회원의 카드 식별자는 무시됩니다.
+     *
+     * @param userId       회원 식별자
+     * @param inventoryIds 삭제할 보관함 식별자 목록
+     * @return 삭제된 개수
+     */
+    int deleteAllByUserId(Long userId, List<Long> inventoryIds);
+
+    /**
+     * 전달된 회원이 저장한 카드를 모두 삭제합니다.
+     *
+     * @param userId 회원 식별자
+     * @return 삭제된 개수
+     */
+    int deleteAllByUserId(Long userId);
 }
@@ -2,28 +2,48 @@ package com.cityCatTarot.domain;
 
 import org.springframework.stereotype.Repository;
 
+import javax.annotation.PostConstruct;
 import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 시작 시점에 한 번 읽어 둔 카드 목록으로 조회를 처리하는 카드 저장소.
+ */
 @Repository
 public class MemoryCardRepository implements CardRepository {
 
     private final EntityManager entityManager;
 
+    private volatile CardCatalog catalog = CardCatalog.empty();
+
     public MemoryCardRepository(EntityManager entityManager) {
         this.entityManager = entityManager;
     }
 
+    /**
+     * 저장된 모든 카드를 읽어 카드 목록을 만듭니다.
+     */
+    @PostConstruct
+    public void loadCatalog() {
+        List<Card> cards = entityManager.createQuery("select c from Card c", Card.class)
+                .getResultList();
+
+        catalog = new CardCatalog(cards);
+    }
+
     @Override
     public List<Card> findAll() {
-        return entityManager.createQuery("select c from Card c", Card.class)
-                .getResultList();
+        return catalog.findAll();
     }
 
     @Override
     public Optional<Card> findById(Long cardId) {
-        Card card = entityManager.find(Card.class, cardId);
-        return Optional.ofNullable(card);
+        return catalog.findById(cardId);
+    }
+
+    @Override
+    public List<Card> findAllByCategory(String cardCategory) {
+        return catalog.findAllByCategory(cardCategory);
     }
 }
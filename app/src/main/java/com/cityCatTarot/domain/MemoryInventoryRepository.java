@@ -1,17 +1,43 @@
 package com.cityCatTarot.domain;
 
+import org.hibernate.Session;
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public class MemoryInventoryRepository implements InventoryRepository {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * 영속성 컨텍스트에 올리지 않고 값만 담은 보관함 카드를 만드는 조회.
+     */
+    private static final String SELECT_INVENTORY = "select new com.cityCatTarot.domain.Inventory(" +
+            "i.inventoryId, i.userId, i.cardId, i.userInputSubject, i.savedAt) from Inventory i";
+
+    private static final String INSERT_INVENTORY = "insert into inventory" +
+            " (inventory_id, user_id, card_id, user_input_subject, saved_at) values (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DEAD_LETTER = "insert into inventory_dead_letter" +
+            " (inventory_id, user_id, card_id, user_input_subject, saved_at, failure_reason, failed_at)" +
+            " values (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private static final int MAX_FAILURE_REASON_LENGTH = 1000;
+
     @PersistenceContext
     private final EntityManager entityManager;
 
@@ -26,9 +52,94 @@ public class MemoryInventoryRepository implements InventoryRepository {
     }
 
     @Override
-    public List<Inventory> findByUserId(Long userId) {
+    public List<Inventory> saveAll(List<Inventory> inventories) {
+        inventories.forEach(entityManager::persist);
+        return inventories;
+    }
+
+    @Override
+    public Long nextInventoryId() {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        IdentifierGenerator generator = sessionFactory.getMetamodel()
+                .entityPersister(Inventory.class)
+                .getIdentifierGenerator();
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return (Long) generator.generate((SharedSessionContractImplementor) session, null);
+        }
+    }
+
+    @Override
+    public void insertAll(List<Inventory> inventories) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_INVENTORY)) {
+                for (Inventory inventory : inventories) {
+                    statement.setLong(1, inventory.getInventoryId());
+                    statement.setLong(2, inventory.getUserId());
+                    statement.setLong(3, inventory.getCardId());
+                    statement.setString(4, inventory.getUserInputSubject());
+                    statement.setTimestamp(5, inventory.getSavedAt() == null
+                            ? null : Timestamp.valueOf(inventory.getSavedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public void insertDeadLetter(Inventory inventory, String failureReason) {
+        String reason = failureReason != null && failureReason.length() > MAX_FAILURE_REASON_LENGTH
+                ? failureReason.substring(0, MAX_FAILURE_REASON_LENGTH) : failureReason;
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_DEAD_LETTER)) {
+                statement.setLong(1, inventory.getInventoryId());
+                statement.setLong(2, inventory.getUserId());
+                statement.setLong(3, inventory.getCardId());
+                statement.setString(4, inventory.getUserInputSubject());
+                statement.setTimestamp(5, inventory.getSavedAt() == null
+                        ? null : Timestamp.valueOf(inventory.getSavedAt()));
+                statement.setString(6, reason);
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    public List<Inventory> findByUserId(Long userId, Long cursor, int limit) {
+        if (cursor == null) {
+            return entityManager.createQuery(SELECT_INVENTORY +
+                    " where i.userId = :userId order by i.inventoryId desc", Inventory.class)
+                    .setParameter("userId", userId)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+
+        return entityManager.createQuery(SELECT_INVENTORY + " where i.userId = :userId" +
+                " and i.inventoryId < :cursor order by i.inventoryId desc", Inventory.class)
+                .setParameter("userId", userId)
+                .setParameter("cursor", cursor)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<Inventory> streamByUserId(Long userId) {
+        return entityManager.createQuery(SELECT_INVENTORY +
+                " where i.userId = :userId order by i.inventoryId desc", Inventory.class)
+                .setParameter("userId", userId)
+                .setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public List<InventoryCardCount> countByCardId(Long userId) {
         return entityManager.createQuery(
-                "select i from Inventory i where i.userId = :userId", Inventory.class)
+                "select new com.cityCatTarot.domain.InventoryCardCount(i.cardId, count(i), max(i.savedAt))" +
+                        " from Inventory i where i.userId = :userId group by i.cardId",
+                InventoryCardCount.class)
                 .setParameter("userId", userId)
                 .getResultList();
     }
@@ -40,4 +151,20 @@ public class MemoryInventoryRepository implements InventoryRepository {
         query.executeUpdate();
     }
 
+    @Override
+    public int deleteAllByUserId(Long userId, List<Long> inventoryIds) {
+        return entityManager.createQuery("delete from Inventory AS i where i.userId = :userId" +
+                " and i.inventoryId in :inventoryIds")
+                .setParameter("userId", userId)
+                .setParameter("inventoryIds", inventoryIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteAllByUserId(Long userId) {
+        return entityManager.createQuery("delete from Inventory AS i where i.userId = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
 }
@@ -15,10 +15,10 @@ public class MemoryRoleRepository implements RoleRepository {
     }
 
     @Override
-    public List<Role> findAllByUserId(Long id) {
-        return entityManager.createQuery("select r from Role r where r.id = :id",
+    public List<Role> findAllByUserId(Long userId) {
+        return entityManager.createQuery("select r from Role r where r.userId = :userId",
                 Role.class)
-                .setParameter("id", id)
+                .setParameter("userId", userId)
                 .getResultList();
     }
 
@@ -1,16 +1,23 @@
 package com.cityCatTarot.domain;
 
+import com.cityCatTarot.dto.UserResultData;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
-import javax.persistence.NoResultException;
 import javax.persistence.Query;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public class MemoryUserRepository implements UserRepository {
 
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String SELECT_USER_RESULT_DATA =
+            "select new com.cityCatTarot.dto.UserResultData(u.id, u.email, u.nickName) from User u";
+
     private final EntityManager entityManager;
 
     public MemoryUserRepository(EntityManager entityManager) {
@@ -33,35 +40,72 @@ public class MemoryUserRepository implements UserRepository {
 
     @Override
     public Optional<User> findByEmailForRegister(String email) {
-
-        try {
-            Query q = entityManager.createQuery("select u from User u where u.email = :email", User.class);
-            q.setParameter("email", email);
-            return (Optional<User>) q.getSingleResult();
-        } catch (NoResultException e) {
-            return Optional.empty();
-        }
+        return entityManager.createQuery("select u from User u where u.email = :email", User.class)
+                .setParameter("email", User.normalizeEmail(email))
+                .getResultStream()
+                .findFirst();
     }
 
     @Override
     public Optional<User> findByEmailForLogin(String email) {
-        return Optional.of(entityManager.createQuery("select u from User u where u.email = :email", User.class)
-                .setParameter("email", email)
-                .getSingleResult());
+        return entityManager.createQuery("select u from User u where u.email = :email", User.class)
+                .setParameter("email", User.normalizeEmail(email))
+                .getResultStream()
+                .findFirst();
     }
 
     @Override
-    public List<User> findAll() {
-        return entityManager.createQuery("select u from User u", User.class)
+    public List<UserResultData> findUserResultData(Long cursor, int limit) {
+        return entityManager.createQuery(SELECT_USER_RESULT_DATA +
+                " where u.id > :cursor order by u.id", UserResultData.class)
+                .setParameter("cursor", cursor == null ? 0L : cursor)
+                .setMaxResults(limit)
                 .getResultList();
     }
 
+    @Override
+    public Optional<UserResultData> findUserResultDataById(Long id) {
+        return entityManager.createQuery(SELECT_USER_RESULT_DATA + " where u.id = :id",
+                UserResultData.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Long> findRolesVersion(Long id) {
+        return entityManager.createQuery(
+                "select u.rolesVersion from User u where u.id = :id and u.deleted = false",
+                Long.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst();
+    }
+
     @Override
     public boolean existsByEmail(String email) {
-        if (findByEmailForRegister(email).isPresent()){
-            return true;
-        }
-        return false;
+        return !entityManager.createQuery("select 1 from User u where u.email = :email")
+                .setParameter("email", User.normalizeEmail(email))
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    @Override
+    public Stream<String> streamAllEmails() {
+        return entityManager.createQuery("select u.email from User u", String.class)
+                .setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public int updatePassword(Long id, String currentPassword, String newPassword) {
+        return entityManager.createQuery("update User u set u.password = :newPassword" +
+                " where u.id = :id and u.password = :currentPassword")
+                .setParameter("newPassword", newPassword)
+                .setParameter("id", id)
+                .setParameter("currentPassword", currentPassword)
+                .executeUpdate();
     }
 
     @Override
@@ -0,0 +1,36 @@
+package com.cityCatTarot.domain;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * 엔티티 식별자를 시퀀스에서 여러 개씩 미리 할당받는 식별자 생성기.
+ *
+ * pooled-lo 방식으로 시퀀스를 한 번 읽을 때마다 increment_size개의 식별자를 씁니다.
+ * increment_size는 city_cat_tarot.id.increment_size 설정으로 프로파일마다 바꿀 수 있습니다.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String INCREMENT_SIZE_SETTING = "city_cat_tarot.id.increment_size";
+
+    public static final int DEFAULT_INCREMENT_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties params,
+                          ServiceRegistry serviceRegistry) throws MappingException {
+        int incrementSize = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(INCREMENT_SIZE_SETTING, StandardConverters.INTEGER,
+                        DEFAULT_INCREMENT_SIZE);
+
+        params.putIfAbsent(INCREMENT_PARAM, String.valueOf(incrementSize));
+        params.putIfAbsent(OPT_PARAM, "pooled-lo");
+
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -4,16 +4,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 
 /**
  * 사용자 권한 정보.
  */
 @Entity(name="Role")
+@Table(indexes = @Index(name = "idx_role_user_id", columnList = "userId"))
 @Builder
 @Getter
 @NoArgsConstructor
@@ -21,7 +26,11 @@ import javax.persistence.Id;
 public class Role {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "role_id_generator")
+    @GenericGenerator(
+            name = "role_id_generator",
+            strategy = "com.cityCatTarot.domain.PooledSequenceGenerator",
+            parameters = @Parameter(name = "sequence_name", value = "role_sequence"))
     private Long id;
 
     @Column(name="userId")
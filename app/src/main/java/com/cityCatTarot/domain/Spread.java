@@ -0,0 +1,23 @@
+package com.cityCatTarot.domain;
+
+/**
+ * 타로 카드 배열법.
+ */
+public enum Spread {
+    ONE_CARD(1),
+    THREE_CARD(3),
+    CELTIC_CROSS(10);
+
+    private final int cardCount;
+
+    Spread(int cardCount) {
+        this.cardCount = cardCount;
+    }
+
+    /**
+     * 배열법에 필요한 카드 장수를 리턴합니다.
+     */
+    public int getCardCount() {
+        return cardCount;
+    }
+}
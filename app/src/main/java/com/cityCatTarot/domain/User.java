@@ -4,25 +4,37 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotEmpty;
+import java.util.Locale;
 
 /**
  * 회원 정보.
  */
 @Entity(name="User")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_email", columnNames = "user_email"))
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "user_id_generator")
+    @GenericGenerator(
+            name = "user_id_generator",
+            strategy = "com.cityCatTarot.domain.PooledSequenceGenerator",
+            parameters = @Parameter(name = "sequence_name", value = "user_sequence"))
     @Column(name = "user_id")
     private Long id;
 
@@ -42,6 +54,32 @@ public class User {
     @Column(name = "deleted")
     private boolean deleted = false;
 
+    @Builder.Default
+    @Column(name = "roles_version")
+    private long rolesVersion = 0L;
+
+    /**
+     * 이메일을 비교할 수 있도록 앞뒤 공백을 없애고 소문자로 바꿉니다.
+     *
+     * @param email 이메일
+     * @return 정규화된 이메일. email이 null이면 null
+     */
+    public static String normalizeEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 저장하기 전에 이메일을 정규화합니다.
+     */
+    @PrePersist
+    @PreUpdate
+    void normalizeEmail() {
+        email = normalizeEmail(email);
+    }
+
     /**
      * 회원의 정보를 변경합니다.
      * @param source 변경할 사용자 정보
@@ -75,11 +113,28 @@ public class User {
         this.password = passwordEncoder.encode(password);
     }
 
+    /**
+     * 회원의 비밀번호를 이미 암호화된 비밀번호로 바꿉니다.
+     * @param encodedPassword 암호화된 회원의 비밀번호
+     */
+    public void changeEncodedPassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     /**
      * 회원을 삭제합니다.
      */
     public void destroy() {
         deleted = true;
+        changeRoles();
+    }
+
+    /**
+     * 회원 권한이 바뀌었음을 기록합니다.
+     * 권한 버전이 올라가므로 그 전에 발급된 액세스 토큰은 더 이상 인증되지 않습니다.
+     */
+    public void changeRoles() {
+        rolesVersion++;
     }
 
     /**
@@ -92,4 +147,13 @@ public class User {
                                 PasswordEncoder passwordEncoder) {
         return !deleted && passwordEncoder.matches(password, this.password);
     }
+
+    /**
+     * 저장된 비밀번호를 전달된 패스워드 인코더의 현재 설정으로 다시 암호화해야 하면 true를 반환합니다.
+     *
+     * @param passwordEncoder 패스워드 인코더
+     */
+    public boolean needsRehash(PasswordEncoder passwordEncoder) {
+        return passwordEncoder.upgradeEncoding(this.password);
+    }
 }
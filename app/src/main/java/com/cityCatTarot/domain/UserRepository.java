@@ -1,10 +1,15 @@
 package com.cityCatTarot.domain;
 
+import com.cityCatTarot.dto.UserResultData;
+
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 회원 저장소.
+ *
+ * 이메일은 대소문자를 구분하지 않습니다. 저장할 때와 조회할 때 모두 User.normalizeEmail로 정규화합니다.
  */
 public interface UserRepository {
     User save(User user);
@@ -15,9 +20,54 @@ public interface UserRepository {
 
     Optional<User> findByEmailForLogin(String email);
 
-    List<User> findAll();
+    /**
+     * 전달된 커서보다 식별자가 큰 회원의 응답 정보를 식별자 순서로 최대 limit개 조회합니다.
+     * 엔티티를 만들지 않고 바로 조회합니다.
+     *
+     * @param cursor 직전 페이지의 마지막 회원 식별자. 첫 페이지는 null
+     * @param limit  최대 개수
+     */
+    List<UserResultData> findUserResultData(Long cursor, int limit);
+
+    /**
+     * 전달된 식별자에 해당하는 회원의 응답 정보를 엔티티를 만들지 않고 바로 조회합니다.
+     *
+     * @param id 회원 식별자
+     */
+    Optional<UserResultData> findUserResultDataById(Long id);
+
+    /**
+     * 전달된 식별자에 해당하는 회원의 권한 버전을 엔티티를 만들지 않고 바로 조회합니다.
+     * 탈퇴 처리된 회원이면 빈 Optional을 리턴합니다.
+     *
+     * @param id 회원 식별자
+     */
+    Optional<Long> findRolesVersion(Long id);
 
+    /**
+     * 전달된 이메일로 가입한 회원이 있으면 true를 리턴합니다.
+     * 회원을 읽지 않고 이메일 인덱스만 확인합니다.
+     *
+     * @param email 이메일
+     */
     boolean existsByEmail(String email);
 
+    /**
+     * 가입한 모든 회원의 이메일을 하나씩 읽는 스트림을 리턴합니다.
+     * 트랜잭션 안에서 사용하고, 다 쓴 뒤에는 닫아야 합니다.
+     */
+    Stream<String> streamAllEmails();
+
+    /**
+     * 회원의 비밀번호가 아직 전달된 현재 비밀번호일 때만 새 비밀번호로 바꿉니다.
+     * 그 사이에 비밀번호가 바뀌었으면 아무것도 바꾸지 않고 0을 리턴합니다.
+     *
+     * @param id              회원 식별자
+     * @param currentPassword 현재 저장된 암호화된 비밀번호
+     * @param newPassword     새로 암호화된 비밀번호
+     * @return 바뀐 회원 수
+     */
+    int updatePassword(Long id, String currentPassword, String newPassword);
+
     void delete(Long id);
 }
@@ -0,0 +1,27 @@
+package com.cityCatTarot.dto;
+
+import com.cityCatTarot.domain.Spread;
+import com.github.dozermapper.core.Mapping;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * 카드 뽑기 요청 정보.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardDrawRequestData {
+
+    @NotNull
+    @Mapping("spread")
+    private Spread spread;
+
+    @Mapping("cardCategory")
+    private String cardCategory;
+}
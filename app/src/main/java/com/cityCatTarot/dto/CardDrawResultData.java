@@ -0,0 +1,27 @@
+package com.cityCatTarot.dto;
+
+import com.cityCatTarot.domain.Card;
+import com.cityCatTarot.domain.Spread;
+import com.github.dozermapper.core.Mapping;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 카드 뽑기 응답 정보.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardDrawResultData {
+
+    @Mapping("spread")
+    private Spread spread;
+
+    @Mapping("cards")
+    private List<Card> cards;
+}
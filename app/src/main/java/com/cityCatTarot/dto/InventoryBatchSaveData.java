@@ -0,0 +1,29 @@
+package com.cityCatTarot.dto;
+
+import com.github.dozermapper.core.Mapping;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 보관함 카드 여러 장을 한 번에 저장하는 요청 정보.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventoryBatchSaveData {
+
+    public static final int MAX_SIZE = 50;
+
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    @Mapping("inventories")
+    private List<@Valid InventorySaveData> inventories;
+}
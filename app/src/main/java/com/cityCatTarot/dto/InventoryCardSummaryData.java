@@ -0,0 +1,34 @@
+package com.cityCatTarot.dto;
+
+import com.github.dozermapper.core.Mapping;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관함 요약의 카드별 저장 횟수.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventoryCardSummaryData {
+
+    @Mapping("cardId")
+    private Long cardId;
+
+    @Mapping("cardCategory")
+    private String cardCategory;
+
+    @Mapping("cardTitle")
+    private String cardTitle;
+
+    @Mapping("count")
+    private long count;
+
+    @Mapping("lastSavedAt")
+    private LocalDateTime lastSavedAt;
+}
@@ -0,0 +1,23 @@
+package com.cityCatTarot.dto;
+
+import com.github.dozermapper.core.Mapping;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관함 요약의 카테고리별 저장 횟수.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventoryCategorySummaryData {
+
+    @Mapping("cardCategory")
+    private String cardCategory;
+
+    @Mapping("count")
+    private long count;
+}
@@ -0,0 +1,20 @@
+package com.cityCatTarot.dto;
+
+import com.github.dozermapper.core.Mapping;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관함 카드 삭제 결과 정보.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventoryDeleteResultData {
+
+    @Mapping("deletedCount")
+    private int deletedCount;
+}
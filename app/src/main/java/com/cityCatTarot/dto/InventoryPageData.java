@@ -0,0 +1,25 @@
+package com.cityCatTarot.dto;
+
+import com.github.dozermapper.core.Mapping;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 보관함 카드 목록의 한 페이지 응답 정보.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventoryPageData {
+
+    @Mapping("inventories")
+    private List<InventoryResultData> inventories;
+
+    @Mapping("nextCursor")
+    private Long nextCursor;
+}
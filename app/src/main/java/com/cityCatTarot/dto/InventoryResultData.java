@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 @AllArgsConstructor
@@ -32,4 +34,7 @@ public class InventoryResultData {
 
     @Mapping("cardDetail")
     private String cardDetail;
+
+    @Mapping("savedAt")
+    private LocalDateTime savedAt;
 }
@@ -6,33 +6,21 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import javax.validation.constraints.NotNull;
+
+/**
+ * 보관함 카드 저장 요청 정보.
+ */
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class InventorySaveData {
 
-    @Mapping("inventoryId")
-    private Long inventoryId;
-
-    @Mapping("userId")
-    private Long userId;
-
+    @NotNull
     @Mapping("cardId")
     private Long cardId;
 
     @Mapping("userInputSubject")
     private String userInputSubject;
-
-    @Mapping("cardCategory")
-    private String cardCategory;
-
-    @Mapping("cardImageUrl")
-    private String cardImageUrl;
-
-    @Mapping("cardTitle")
-    private String cardTitle;
-
-    @Mapping("cardDetail")
-    private String cardDetail;
 }
@@ -0,0 +1,32 @@
+package com.cityCatTarot.dto;
+
+import com.github.dozermapper.core.Mapping;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관함 요약 응답 정보.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventorySummaryData {
+
+    @Mapping("totalCount")
+    private long totalCount;
+
+    @Mapping("lastSavedAt")
+    private LocalDateTime lastSavedAt;
+
+    @Mapping("categories")
+    private List<InventoryCategorySummaryData> categories;
+
+    @Mapping("cards")
+    private List<InventoryCardSummaryData> cards;
+}
@@ -0,0 +1,25 @@
+package com.cityCatTarot.dto;
+
+import com.github.dozermapper.core.Mapping;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 회원 목록의 한 페이지 응답 정보.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPageData {
+
+    @Mapping("users")
+    private List<UserResultData> users;
+
+    @Mapping("nextCursor")
+    private Long nextCursor;
+}
@@ -0,0 +1,10 @@
+package com.cityCatTarot.errors;
+
+/**
+ * 카드 카테고리를 찾을 수 없는 예외.
+ */
+public class CardCategoryNotFoundException extends RuntimeException {
+    public CardCategoryNotFoundException(String cardCategory) {
+        super("Card category not found: " + cardCategory);
+    }
+}
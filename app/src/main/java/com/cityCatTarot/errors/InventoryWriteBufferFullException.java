@@ -0,0 +1,10 @@
+package com.cityCatTarot.errors;
+
+/**
+ * 보관함 쓰기 대기열이 가득 차 저장 요청을 받을 수 없는 예외.
+ */
+public class InventoryWriteBufferFullException extends RuntimeException {
+    public InventoryWriteBufferFullException(int capacity) {
+        super("Inventory write buffer is full: " + capacity);
+    }
+}
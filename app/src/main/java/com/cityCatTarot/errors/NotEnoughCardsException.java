@@ -0,0 +1,10 @@
+package com.cityCatTarot.errors;
+
+/**
+ * 뽑으려는 장수만큼 카드가 없는 예외.
+ */
+public class NotEnoughCardsException extends RuntimeException {
+    public NotEnoughCardsException(String cardCategory, int count) {
+        super("Not enough cards to draw " + count + " from: " + cardCategory);
+    }
+}
@@ -0,0 +1,10 @@
+package com.cityCatTarot.errors;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 차 로그인이나 회원가입 요청을 받을 수 없는 예외.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(int queueCapacity) {
+        super("Password hashing queue is full: " + queueCapacity);
+    }
+}
@@ -1,8 +1,6 @@
 package com.cityCatTarot.filters;
 
 import com.cityCatTarot.application.AuthenticationService;
-import com.cityCatTarot.domain.Role;
-import com.cityCatTarot.security.UserAuthentication;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -14,7 +12,6 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Jwt가 유효한 토큰인지 인증하기 위한 필터
@@ -56,11 +53,8 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
             String accessToken = authorization.substring("Bearer ".length());
 
-            Long userId = authenticationService.parseToken(accessToken);
-
-            List<Role> roles = authenticationService.roles(userId);
             Authentication authentication =
-                    new UserAuthentication(userId, roles);
+                    authenticationService.authenticate(accessToken);
 
             SecurityContext context = SecurityContextHolder.getContext();
             context.setAuthentication(authentication);
@@ -0,0 +1,113 @@
+package com.cityCatTarot.utils;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 중인 서버에서 측정한 해시 시간으로 강도를 정하는 BCrypt 패스워드 인코더.
+ *
+ * 저장된 해시의 강도가 이 인코더의 강도보다 낮으면 upgradeEncoding이 true를 리턴하므로,
+ * 로그인에 성공했을 때 현재 강도로 다시 해시할 수 있습니다.
+ * 더 빠른 서버가 높은 강도로 만든 해시는 낮추지 않으므로, 서버마다 강도가 달라도 해시가 오가며 바뀌지 않습니다.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN =
+            Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private static final String SAMPLE_PASSWORD = "city-cat-tarot";
+    private static final int SAMPLES = 3;
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * 해시 한 번에 걸리는 시간이 전달된 예산 안에 드는 가장 높은 강도로 인코더를 만듭니다.
+     * 최소 강도로도 예산을 넘으면 최소 강도를 사용합니다.
+     *
+     * @param latencyBudget 해시 한 번에 허용하는 시간
+     * @param minStrength   최소 강도
+     * @param maxStrength   최대 강도
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(
+            Duration latencyBudget, int minStrength, int maxStrength) {
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(4));
+
+        return new CalibratedBCryptPasswordEncoder(calibrateStrength(
+                latencyBudget, minStrength, maxStrength,
+                CalibratedBCryptPasswordEncoder::measureHashTime));
+    }
+
+    /**
+     * 강도를 하나씩 올리며 해시 시간을 재고, 예산 안에 드는 가장 높은 강도를 리턴합니다.
+     * 강도가 1 오르면 해시 시간이 두 배가 되므로, 다음 강도가 예산을 넘을 것이 분명하면 재지 않습니다.
+     */
+    static int calibrateStrength(Duration latencyBudget, int minStrength, int maxStrength,
+                                 IntFunction<Duration> hashTime) {
+        int strength = minStrength;
+        Duration elapsed = hashTime.apply(strength);
+
+        while (strength < maxStrength
+                && elapsed.multipliedBy(2).compareTo(latencyBudget) <= 0) {
+            Duration next = hashTime.apply(strength + 1);
+            if (next.compareTo(latencyBudget) > 0) {
+                break;
+            }
+            strength++;
+            elapsed = next;
+        }
+
+        return strength;
+    }
+
+    /**
+     * 이 인코더가 새로 만드는 해시의 강도를 리턴합니다.
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * 저장된 해시의 강도가 이 인코더의 강도보다 낮으면 true를 리턴합니다.
+     * BCrypt 해시가 아니면 다시 해시할 수 없으므로 false를 리턴합니다.
+     *
+     * @param encodedPassword 저장된 해시
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+
+        return Integer.parseInt(matcher.group(2)) < strength;
+    }
+
+    private static Duration measureHashTime(int strength) {
+        long[] samples = new long[SAMPLES];
+        String salt = BCrypt.gensalt(strength);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            samples[i] = System.nanoTime() - startedAt;
+        }
+
+        Arrays.sort(samples);
+        return Duration.ofNanos(samples[SAMPLES / 2]);
+    }
+}
@@ -0,0 +1,272 @@
+package com.cityCatTarot.utils;
+
+import com.cityCatTarot.errors.InvalidTokenException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Arrays;
+
+/**
+ * 이 서비스가 발급하는 모양의 JWT 토큰만 빠르게 검증합니다.
+ *
+ * 헤더가 {"alg":"HS256"}이고 클레임이 {"user_id":숫자,"roles":"권한","roles_ver":숫자}인 토큰은
+ * 스레드마다 재사용하는 버퍼에 Base64URL 디코딩과 HMAC 계산을 하고, Map을 만들지 않고 클레임을 읽습니다.
+ * 그 밖의 토큰은 모두 JwtUtil.decode로 검증하므로 결과는 JwtUtil과 같습니다.
+ */
+@Component
+public class FastJwtVerifier {
+
+    private static final String HS256_HEADER = "eyJhbGciOiJIUzI1NiJ9";
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int ENCODED_SIGNATURE_LENGTH = 43;
+    private static final int MAX_TOKEN_LENGTH = 512;
+
+    private static final byte[] USER_ID_PREFIX = ascii("{\"" + TokenClaims.USER_ID + "\":");
+    private static final byte[] ROLES_PREFIX = ascii(",\"" + TokenClaims.ROLES + "\":\"");
+    private static final byte[] ROLES_VERSION_PREFIX = ascii("\",\"" + TokenClaims.ROLES_VERSION + "\":");
+    private static final int MAX_NUMBER_DIGITS = 18;
+
+    private static final int[] BASE64URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final JwtUtil jwtUtil;
+    private final ThreadLocal<Buffers> buffers;
+
+    public FastJwtVerifier(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+
+        Key key = jwtUtil.key();
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(key));
+    }
+
+    /**
+     * 토큰을 검증하고 담긴 정보를 리턴합니다.
+     * 빠른 경로로 검증할 수 없는 토큰은 JwtUtil.decode로 검증합니다.
+     *
+     * @param token 토큰
+     * @return 토큰에 담긴 정보
+     * @throws InvalidTokenException 토큰이 유효하지 않을 경우
+     */
+    public TokenClaims verify(String token) {
+        TokenClaims claims = tryVerify(token);
+        if (claims != null) {
+            return claims;
+        }
+
+        return TokenClaims.from(jwtUtil.decode(token));
+    }
+
+    /**
+     * 이 서비스가 발급하는 모양의 토큰이면 검증하고 담긴 정보를 리턴합니다.
+     * 모양이 다른 토큰은 검증하지 않고 null을 리턴합니다.
+     *
+     * @param token 토큰
+     * @return 토큰에 담긴 정보 또는 null
+     * @throws InvalidTokenException 토큰이 비어 있거나 서명이 일치하지 않을 경우
+     */
+    public TokenClaims tryVerify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidTokenException(token);
+        }
+
+        int length = token.length();
+        int headerEnd = HS256_HEADER.length();
+        if (length > MAX_TOKEN_LENGTH
+                || !token.startsWith(HS256_HEADER)
+                || length <= headerEnd || token.charAt(headerEnd) != '.') {
+            return null;
+        }
+
+        int payloadStart = headerEnd + 1;
+        int payloadEnd = length - ENCODED_SIGNATURE_LENGTH - 1;
+        if (payloadEnd <= payloadStart || token.charAt(payloadEnd) != '.') {
+            return null;
+        }
+
+        Buffers buffers = this.buffers.get();
+
+        int payloadLength = decode(token, payloadStart, payloadEnd, buffers.payload);
+        if (payloadLength < 0 || !buffers.parsePayload(payloadLength)) {
+            return null;
+        }
+
+        if (decode(token, payloadEnd + 1, length, buffers.signature) != SIGNATURE_LENGTH) {
+            return null;
+        }
+
+        for (int i = 0; i < payloadEnd; i++) {
+            buffers.signingInput[i] = (byte) token.charAt(i);
+        }
+        if (!buffers.verify(payloadEnd)) {
+            throw new InvalidTokenException(token);
+        }
+
+        return new TokenClaims(
+                buffers.userId,
+                TokenClaims.splitRoles(new String(buffers.payload,
+                        buffers.rolesStart, buffers.rolesEnd - buffers.rolesStart,
+                        StandardCharsets.US_ASCII)),
+                buffers.rolesVersion,
+                null);
+    }
+
+    /**
+     * Base64URL 문자열의 일부를 패딩 없이 디코딩해 버퍼에 씁니다.
+     * 알파벳 밖의 글자가 있거나, 길이가 맞지 않거나, 남는 비트가 0이 아니면 -1을 리턴합니다.
+     */
+    private static int decode(String source, int start, int end, byte[] target) {
+        int length = end - start;
+        int decodedLength = length * 3 / 4;
+        if (length % 4 == 1 || decodedLength > target.length) {
+            return -1;
+        }
+
+        int bits = 0;
+        int bitCount = 0;
+        int written = 0;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[written++] = (byte) (bits >> bitCount);
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+
+        return bits == 0 ? written : -1;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static boolean isRoleCharacter(byte c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')
+                || (c >= '0' && c <= '9') || c == '_' || c == ',';
+    }
+
+    /**
+     * 스레드마다 하나씩 두고 재사용하는 Mac과 버퍼, 그리고 마지막으로 읽은 클레임.
+     */
+    private static final class Buffers {
+        private final Mac mac;
+        private final byte[] signingInput = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+
+        private int position;
+        private long userId;
+        private int rolesStart;
+        private int rolesEnd;
+        private long rolesVersion;
+
+        private Buffers(Key key) {
+            try {
+                mac = Mac.getInstance(HMAC_SHA256);
+                mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * {"user_id":숫자,"roles":"권한","roles_ver":숫자} 모양의 클레임을 읽습니다.
+         * 다른 모양이면 false를 리턴합니다.
+         */
+        private boolean parsePayload(int length) {
+            position = 0;
+
+            if (!expect(USER_ID_PREFIX, length)) {
+                return false;
+            }
+            userId = readNumber(length);
+            if (userId < 0 || !expect(ROLES_PREFIX, length)) {
+                return false;
+            }
+
+            rolesStart = position;
+            while (position < length && isRoleCharacter(payload[position])) {
+                position++;
+            }
+            rolesEnd = position;
+
+            if (!expect(ROLES_VERSION_PREFIX, length)) {
+                return false;
+            }
+            rolesVersion = readNumber(length);
+
+            return rolesVersion >= 0
+                    && position == length - 1 && payload[position] == '}';
+        }
+
+        private boolean expect(byte[] literal, int length) {
+            if (position + literal.length > length) {
+                return false;
+            }
+            for (int i = 0; i < literal.length; i++) {
+                if (payload[position + i] != literal[i]) {
+                    return false;
+                }
+            }
+            position += literal.length;
+            return true;
+        }
+
+        /**
+         * 0 이상의 정수를 읽습니다. 숫자가 없거나, 0으로 시작하는 두 자리 이상이거나, 너무 길면 -1을 리턴합니다.
+         */
+        private long readNumber(int length) {
+            int start = position;
+            long value = 0;
+            while (position < length && payload[position] >= '0' && payload[position] <= '9') {
+                value = value * 10 + (payload[position] - '0');
+                position++;
+            }
+
+            int digits = position - start;
+            if (digits < 1 || digits > MAX_NUMBER_DIGITS
+                    || (payload[start] == '0' && digits > 1)) {
+                return -1;
+            }
+            return value;
+        }
+
+        /**
+         * 서명할 입력의 HMAC이 디코딩한 서명과 같으면 true를 리턴합니다. 비교 시간은 일치 여부와 관계없습니다.
+         */
+        private boolean verify(int signingInputLength) {
+            mac.update(signingInput, 0, signingInputLength);
+            try {
+                mac.doFinal(expected, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
+
+            int difference = 0;
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                difference |= expected[i] ^ signature[i];
+            }
+            return difference == 0;
+        }
+    }
+}
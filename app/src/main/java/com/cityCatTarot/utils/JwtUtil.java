@@ -2,6 +2,7 @@ package com.cityCatTarot.utils;
 
 import com.cityCatTarot.errors.InvalidTokenException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Collection;
 
 /**
  * JWT 토큰을 관리합니다.
@@ -16,20 +18,35 @@ import java.security.Key;
 @Component
 public class JwtUtil {
     private final Key key;
+    private final JwtParser parser;
 
     public JwtUtil(@Value("${jwt.secret}") String secret) {
         key = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /**
-     * JWT 토큰을 생성합니다.
+     * 토큰 서명에 쓰는 키를 리턴합니다.
+     */
+    Key key() {
+        return key;
+    }
+
+    /**
+     * 회원 식별자와 권한을 담은 JWT 토큰을 생성합니다.
      *
-     * @param userId 회원 식별자
+     * @param userId       회원 식별자
+     * @param roles        회원 권한 이름 목록
+     * @param rolesVersion 회원 권한 버전
      * @return 생성된 토큰
      */
-    public String encode(Long userId) {
+    public String encode(Long userId, Collection<String> roles, long rolesVersion) {
         String token = Jwts.builder()
-                .claim("user_id", userId)
+                .claim(TokenClaims.USER_ID, userId)
+                .claim(TokenClaims.ROLES, TokenClaims.joinRoles(roles))
+                .claim(TokenClaims.ROLES_VERSION, rolesVersion)
                 .signWith(key)
                 .compact();
 
@@ -49,10 +66,7 @@ public class JwtUtil {
         }
 
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
+            return parser.parseClaimsJws(token)
                     .getBody();
         } catch (SignatureException e) {
             throw new InvalidTokenException(token);
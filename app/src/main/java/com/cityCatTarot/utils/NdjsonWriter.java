@@ -0,0 +1,65 @@
+package com.cityCatTarot.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 값을 한 줄에 하나씩 JSON으로 쓰는 NDJSON(newline-delimited JSON) 작성기.
+ *
+ * 값을 쓰는 즉시 출력 스트림으로 내보내므로, 목록 전체를 메모리에 올리지 않고 응답할 수 있습니다.
+ */
+public class NdjsonWriter implements Closeable {
+
+    private static final int NEWLINE = '\n';
+
+    private final ObjectWriter objectWriter;
+    private final OutputStream outputStream;
+    private final GZIPOutputStream gzipOutputStream;
+
+    /**
+     * @param objectMapper 값을 직렬화할 ObjectMapper
+     * @param outputStream 출력 스트림. close해도 닫지 않습니다.
+     * @param gzip         true면 gzip으로 압축해서 씁니다.
+     */
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream outputStream,
+                        boolean gzip) throws IOException {
+        this.objectWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        this.gzipOutputStream = gzip ? new GZIPOutputStream(outputStream, true) : null;
+        this.outputStream = gzip ? gzipOutputStream : outputStream;
+    }
+
+    /**
+     * 전달된 값을 한 줄로 씁니다.
+     *
+     * @param value 쓸 값
+     * @throws UncheckedIOException 출력 스트림에 쓸 수 없는 경우
+     */
+    public void write(Object value) {
+        try {
+            objectWriter.writeValue(outputStream, value);
+            outputStream.write(NEWLINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 남은 내용을 내보내고, gzip이면 압축을 마칩니다. 출력 스트림은 닫지 않습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (gzipOutputStream != null) {
+            gzipOutputStream.finish();
+        }
+        outputStream.flush();
+    }
+}
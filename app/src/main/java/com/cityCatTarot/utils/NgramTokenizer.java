@@ -0,0 +1,81 @@
+package com.cityCatTarot.utils;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 토크나이저.
+ *
+ * 문자열을 NFKC로 정규화하고 소문자로 바꾼 뒤, 글자와 숫자만 이어 붙여 한 글자(unigram)와 두 글자(bigram) 단위로 자릅니다.
+ * 띄어쓰기를 무시하므로 "문자 올까"와 "문자올까"가 같은 검색어가 됩니다.
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인할 문자열의 모든 unigram과 bigram을 리턴합니다.
+     *
+     * @param text 색인할 문자열
+     */
+    public static Set<String> indexTerms(String text) {
+        String normalized = normalize(text);
+        Set<String> terms = new LinkedHashSet<>();
+
+        for (int i = 0; i < normalized.length(); i++) {
+            terms.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                terms.add(normalized.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어를 찾을 때 모두 포함되어야 하는 n-gram을 리턴합니다.
+     * 한 글자 검색어는 unigram, 두 글자 이상은 bigram으로 찾습니다. 찾을 글자가 없으면 빈 집합을 리턴합니다.
+     *
+     * @param query 검색어
+     */
+    public static Set<String> queryTerms(String query) {
+        String normalized = normalize(query);
+        Set<String> terms = new LinkedHashSet<>();
+
+        if (normalized.length() == 1) {
+            terms.add(normalized);
+        }
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            terms.add(normalized.substring(i, i + 2));
+        }
+        return terms;
+    }
+
+    /**
+     * 정규화한 문자열에 정규화한 검색어가 그대로 들어 있으면 true를 리턴합니다.
+     * n-gram이 모두 일치해도 순서가 다를 수 있으므로, 검색 결과를 마지막으로 확인할 때 사용합니다.
+     *
+     * @param text  색인한 문자열
+     * @param query 검색어
+     */
+    public static boolean contains(String text, String query) {
+        return normalize(text).contains(normalize(query));
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .filter(Character::isBmpCodePoint)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package com.cityCatTarot.utils;
+
+import io.jsonwebtoken.Claims;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 액세스 토큰에 담긴 회원 식별자, 권한, 권한 버전.
+ *
+ * 권한은 토큰이 짧도록 쉼표로 이은 문자열 하나로 담습니다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TokenClaims {
+
+    public static final String USER_ID = "user_id";
+    public static final String ROLES = "roles";
+    public static final String ROLES_VERSION = "roles_ver";
+
+    private static final String ROLE_SEPARATOR = ",";
+
+    private final Long userId;
+    private final List<String> roles;
+    private final Long rolesVersion;
+    private final Instant expiresAt;
+
+    /**
+     * @param userId       회원 식별자
+     * @param roles        회원 권한 이름 목록
+     * @param rolesVersion 권한 버전. 권한이 담기지 않은 토큰은 null
+     * @param expiresAt    토큰 만료 시각. 만료 시각이 없는 토큰은 null
+     */
+    public TokenClaims(Long userId, List<String> roles, Long rolesVersion, Instant expiresAt) {
+        this.userId = userId;
+        this.roles = List.copyOf(roles);
+        this.rolesVersion = rolesVersion;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * jjwt가 파싱한 클레임에서 토큰 정보를 읽습니다.
+     *
+     * @param claims 서명이 검증된 클레임
+     */
+    public static TokenClaims from(Claims claims) {
+        Date expiration = claims.getExpiration();
+
+        return new TokenClaims(
+                claims.get(USER_ID, Long.class),
+                splitRoles(claims.get(ROLES, String.class)),
+                claims.get(ROLES_VERSION, Long.class),
+                expiration == null ? null : expiration.toInstant());
+    }
+
+    /**
+     * 권한 이름 목록을 토큰에 담을 문자열로 잇습니다.
+     */
+    static String joinRoles(Collection<String> roles) {
+        return String.join(ROLE_SEPARATOR, roles);
+    }
+
+    /**
+     * 토큰에 담긴 권한 문자열을 권한 이름 목록으로 나눕니다.
+     */
+    static List<String> splitRoles(String roles) {
+        if (roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+        return List.of(roles.split(ROLE_SEPARATOR));
+    }
+}
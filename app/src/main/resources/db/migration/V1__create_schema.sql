@@ -0,0 +1,51 @@
+-- H2와 MariaDB에서 모두 실행되는 스키마입니다.
+-- 이미 운영 중인 데이터베이스에서도 안전하도록 IF NOT EXISTS로 작성합니다.
+
+CREATE TABLE IF NOT EXISTS card (
+    card_id        BIGINT       NOT NULL,
+    card_category  VARCHAR(255),
+    card_image_url VARCHAR(255),
+    card_title     VARCHAR(255),
+    card_detail    TEXT,
+    PRIMARY KEY (card_id)
+);
+
+CREATE TABLE IF NOT EXISTS user (
+    user_id        BIGINT       NOT NULL,
+    user_email     VARCHAR(255),
+    user_nick_name VARCHAR(255),
+    user_password  VARCHAR(255),
+    deleted        BOOLEAN      NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE IF NOT EXISTS role (
+    id      BIGINT       NOT NULL,
+    user_id BIGINT,
+    name    VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS inventory (
+    inventory_id       BIGINT       NOT NULL,
+    user_id            BIGINT,
+    card_id            BIGINT,
+    user_input_subject VARCHAR(255),
+    PRIMARY KEY (inventory_id)
+);
+
+CREATE TABLE IF NOT EXISTS hibernate_sequence (
+    next_val BIGINT
+);
+
+INSERT INTO hibernate_sequence (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM hibernate_sequence);
+
+-- 보관함 목록: where user_id = ? and inventory_id < ? order by inventory_id desc
+CREATE INDEX IF NOT EXISTS idx_inventory_user_id ON inventory (user_id, inventory_id);
+
+-- 로그인, 이메일 중복 확인: where user_email = ?
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_email ON user (user_email);
+
+-- 회원 권한 조회: where user_id = ?
+CREATE INDEX IF NOT EXISTS idx_role_user_id ON role (user_id);
@@ -0,0 +1,10 @@
+-- 보관함 식별자는 inventory_sequence에서 50개씩 할당받습니다 (pooled-lo).
+-- 기존 보관함 식별자와 겹치지 않도록 가장 큰 식별자 다음 값부터 시작합니다.
+
+CREATE TABLE IF NOT EXISTS inventory_sequence (
+    next_val BIGINT
+);
+
+INSERT INTO inventory_sequence (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(inventory_id), 0) + 1 AS next_val FROM inventory) m
+WHERE NOT EXISTS (SELECT * FROM inventory_sequence);
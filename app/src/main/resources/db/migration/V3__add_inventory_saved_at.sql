@@ -0,0 +1,3 @@
+-- 보관함 카드를 저장한 시각. 이 컬럼이 생기기 전에 저장된 카드는 비어 있습니다.
+
+ALTER TABLE inventory ADD COLUMN IF NOT EXISTS saved_at DATETIME(6) NULL;
@@ -0,0 +1,18 @@
+-- 회원과 권한 식별자도 엔티티별 시퀀스에서 여러 개씩 할당받습니다 (pooled-lo).
+-- 기존 식별자와 겹치지 않도록 가장 큰 식별자 다음 값부터 시작합니다.
+
+CREATE TABLE IF NOT EXISTS user_sequence (
+    next_val BIGINT
+);
+
+INSERT INTO user_sequence (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(user_id), 0) + 1 AS next_val FROM user) m
+WHERE NOT EXISTS (SELECT * FROM user_sequence);
+
+CREATE TABLE IF NOT EXISTS role_sequence (
+    next_val BIGINT
+);
+
+INSERT INTO role_sequence (next_val)
+SELECT m.next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM role) m
+WHERE NOT EXISTS (SELECT * FROM role_sequence);
@@ -0,0 +1,41 @@
+-- 이메일은 대소문자를 구분하지 않고 소문자로 저장합니다.
+-- 대소문자만 다른 이메일이 이미 있으면 uk_user_email 때문에 실패하므로, 먼저 확인해 멈춥니다.
+
+-- 1. 소문자로 바꾸면 겹치는 회원을 user_email_conflict에 모읍니다.
+CREATE TABLE IF NOT EXISTS user_email_conflict (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    user_email VARCHAR(255) NOT NULL,
+    normalized_email VARCHAR(255) NOT NULL
+);
+
+DELETE FROM user_email_conflict;
+
+INSERT INTO user_email_conflict (user_id, user_email, normalized_email)
+SELECT u.user_id, u.user_email, LOWER(TRIM(u.user_email)) FROM user u
+WHERE LOWER(TRIM(u.user_email)) IN (
+    SELECT d.normalized_email FROM (
+        SELECT LOWER(TRIM(user_email)) AS normalized_email FROM user
+        GROUP BY LOWER(TRIM(user_email))
+        HAVING COUNT(*) > 1
+    ) d
+);
+
+-- 2. 겹치는 회원이 있으면 같은 메시지를 기본 키에 두 번 넣어, 그 메시지가 담긴 오류로 마이그레이션을 멈춥니다.
+--    user_email_conflict에 남은 회원의 이메일을 정리한 뒤 다시 실행하면 됩니다.
+CREATE TABLE IF NOT EXISTS user_email_conflict_guard (
+    message VARCHAR(255) NOT NULL PRIMARY KEY
+);
+
+DELETE FROM user_email_conflict_guard;
+
+INSERT INTO user_email_conflict_guard (message)
+SELECT 'V5 stopped: resolve the case-only duplicate emails listed in user_email_conflict, then migrate again'
+FROM user_email_conflict;
+
+DROP TABLE user_email_conflict_guard;
+DROP TABLE user_email_conflict;
+
+-- 3. 겹치는 이메일이 없으면 모두 소문자로 바꿉니다.
+UPDATE user
+SET user_email = LOWER(TRIM(user_email))
+WHERE user_email <> LOWER(TRIM(user_email));
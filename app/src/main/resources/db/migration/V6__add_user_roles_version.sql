@@ -0,0 +1,3 @@
+-- 회원 권한이 바뀔 때마다 올라가는 버전. 액세스 토큰에 함께 담겨, 버전이 다른 토큰은 거절됩니다.
+
+ALTER TABLE user ADD COLUMN IF NOT EXISTS roles_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- 나중에 저장하기로 하고 식별자를 돌려준 보관함 카드 중, 데이터 때문에 저장하지 못한 카드.
+-- 같은 배치의 다른 카드는 저장되고 이 카드만 남으므로, 원인을 고친 뒤 inventory로 옮기면 됩니다.
+
+CREATE TABLE IF NOT EXISTS inventory_dead_letter (
+    inventory_id       BIGINT       NOT NULL,
+    user_id            BIGINT,
+    card_id            BIGINT,
+    user_input_subject VARCHAR(255),
+    saved_at           DATETIME(6),
+    failure_reason     VARCHAR(1000),
+    failed_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (inventory_id)
+);
@@ -2,7 +2,9 @@ package com.cityCatTarot.application;
 
 import com.cityCatTarot.domain.Card;
 import com.cityCatTarot.domain.CardRepository;
+import com.cityCatTarot.errors.CardCategoryNotFoundException;
 import com.cityCatTarot.errors.CardNotFoundException;
+import com.cityCatTarot.errors.NotEnoughCardsException;
 import com.github.dozermapper.core.DozerBeanMapperBuilder;
 import com.github.dozermapper.core.Mapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -66,6 +68,8 @@ class CardServiceTest {
         given(cardRepository.findAll()).willReturn(cards);
 
         given(cardRepository.findById(EXISTING_CARD_ID_2)).willReturn(Optional.of(card_magician));
+
+        given(cardRepository.findAllByCategory(EXISTING_CARD_CATEGORY)).willReturn(cards);
     }
 
         @Test
@@ -90,4 +94,53 @@ class CardServiceTest {
             assertThatThrownBy(() -> cardService.getCard(NOT_EXISTING_ID))
                     .isInstanceOf(CardNotFoundException.class);
         }
+
+        @Test
+        void getCardsByExistedCategory() {
+            List<Card> cards = cardService.getCardsByCategory(EXISTING_CARD_CATEGORY);
+
+            assertThat(cards.size()).isEqualTo(TOTAl_CARD_COUNT);
+        }
+
+        @Test
+        void getCardsByNotExistedCategory() {
+            assertThatThrownBy(() -> cardService.getCardsByCategory(NOT_EXISTING_CARD_CATEGORY))
+                    .isInstanceOf(CardCategoryNotFoundException.class);
+        }
+
+        @Test
+        void getCardWithCategoryAndExistedCardId() {
+            Card card = cardService.getCard(EXISTING_CARD_CATEGORY, EXISTING_CARD_ID_2);
+
+            assertThat(card.getCardTitle()).isEqualTo(CARD_TITLE_2);
+        }
+
+        @Test
+        void drawCards() {
+            List<Card> drawn = cardService.drawCards(EXISTING_CARD_CATEGORY, TOTAl_CARD_COUNT);
+
+            assertThat(drawn).hasSize(TOTAl_CARD_COUNT);
+            assertThat(drawn).doesNotHaveDuplicates();
+            assertThat(drawn).containsExactlyInAnyOrderElementsOf(cards);
+        }
+
+        @Test
+        void drawCardsWithoutCategory() {
+            List<Card> drawn = cardService.drawCards(null, 1);
+
+            assertThat(drawn).hasSize(1);
+            assertThat(cards).containsAll(drawn);
+        }
+
+        @Test
+        void drawCardsMoreThanDeck() {
+            assertThatThrownBy(() -> cardService.drawCards(EXISTING_CARD_CATEGORY, TOTAl_CARD_COUNT + 1))
+                    .isInstanceOf(NotEnoughCardsException.class);
+        }
+
+        @Test
+        void getCardWithWrongCategory() {
+            assertThatThrownBy(() -> cardService.getCard(NOT_EXISTING_CARD_CATEGORY, EXISTING_CARD_ID_2))
+                    .isInstanceOf(CardNotFoundException.class);
+        }
 }
@@ -0,0 +1,121 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.Card;
+import com.cityCatTarot.errors.CardCategoryNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DailyCardServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String EXISTING_CARD_CATEGORY = "todayTarot";
+    private static final String NOT_EXISTING_CARD_CATEGORY = "notCategory";
+    private static final Long USER_ID = 1L;
+
+    private final CardService cardService = mock(CardService.class);
+
+    private TestClock clock;
+    private DailyCardService dailyCardService;
+
+    @BeforeEach
+    void setUp() {
+        List<Card> cards = LongStream.rangeClosed(1, 22)
+                .mapToObj(cardId -> Card.builder()
+                        .cardId(cardId)
+                        .cardCategory(EXISTING_CARD_CATEGORY)
+                        .cardTitle("카드" + cardId)
+                        .build())
+                .collect(Collectors.toList());
+
+        given(cardService.getCardsByCategory(EXISTING_CARD_CATEGORY)).willReturn(cards);
+        given(cardService.getCardsByCategory(NOT_EXISTING_CARD_CATEGORY))
+                .willThrow(new CardCategoryNotFoundException(NOT_EXISTING_CARD_CATEGORY));
+
+        clock = new TestClock(Instant.parse("2021-04-20T03:00:00Z"));
+        dailyCardService = new DailyCardService(cardService, clock, 100);
+    }
+
+    @Test
+    @DisplayName("getDailyCard는 같은 날에는 같은 카드를 리턴하고, 한 번만 계산한다.")
+    void getDailyCardOnSameDay() {
+        Card first = dailyCardService.getDailyCard(USER_ID, EXISTING_CARD_CATEGORY);
+
+        clock.advance(Duration.ofHours(10));
+        Card second = dailyCardService.getDailyCard(USER_ID, EXISTING_CARD_CATEGORY);
+
+        assertThat(second).isSameAs(first);
+        verify(cardService, times(1)).getCardsByCategory(EXISTING_CARD_CATEGORY);
+    }
+
+    @Test
+    @DisplayName("getDailyCard는 자정이 지나면 다시 계산한다.")
+    void getDailyCardAfterMidnight() {
+        dailyCardService.getDailyCard(USER_ID, EXISTING_CARD_CATEGORY);
+
+        clock.advance(Duration.ofDays(1));
+        dailyCardService.getDailyCard(USER_ID, EXISTING_CARD_CATEGORY);
+
+        verify(cardService, times(2)).getCardsByCategory(EXISTING_CARD_CATEGORY);
+    }
+
+    @Test
+    @DisplayName("getDailyCard는 서버가 달라도 같은 회원, 날짜, 카테고리에 같은 카드를 리턴한다.")
+    void getDailyCardIsDeterministic() {
+        DailyCardService otherNode = new DailyCardService(cardService, clock, 100);
+
+        for (long userId = 1; userId <= 50; userId++) {
+            assertThat(otherNode.getDailyCard(userId, EXISTING_CARD_CATEGORY).getCardId())
+                    .isEqualTo(dailyCardService.getDailyCard(userId, EXISTING_CARD_CATEGORY).getCardId());
+        }
+    }
+
+    @Test
+    @DisplayName("getDailyCard는 저장되지 않은 카테고리가 주어지면 예외를 던진다.")
+    void getDailyCardWithNotExistingCategory() {
+        assertThatThrownBy(() -> dailyCardService.getDailyCard(USER_ID, NOT_EXISTING_CARD_CATEGORY))
+                .isInstanceOf(CardCategoryNotFoundException.class);
+    }
+
+    private static class TestClock extends Clock {
+        private Instant instant;
+
+        private TestClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
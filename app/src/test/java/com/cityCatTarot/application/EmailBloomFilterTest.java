@@ -0,0 +1,103 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class EmailBloomFilterTest {
+
+    private static final String EXISTING_EMAIL = "existing@email.coz";
+    private static final String NEW_EMAIL = "new@email.coz";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        given(userRepository.streamAllEmails())
+                .will(invocation -> Stream.of(EXISTING_EMAIL));
+
+        emailBloomFilter = new EmailBloomFilter(
+                userRepository, mock(PlatformTransactionManager.class), 1000, 0.01, 0);
+    }
+
+    @Test
+    @DisplayName("mightContain은 필터를 만들기 전에는 모든 이메일에 true를 리턴한다.")
+    void mightContainBeforeRebuild() {
+        assertThat(emailBloomFilter.mightContain(NEW_EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("mightContain은 가입된 이메일에 대소문자와 공백과 관계없이 true를 리턴한다.")
+    void mightContainWithExistingEmail() {
+        emailBloomFilter.rebuild();
+
+        assertThat(emailBloomFilter.mightContain(EXISTING_EMAIL)).isTrue();
+        assertThat(emailBloomFilter.mightContain(" Existing@Email.COZ ")).isTrue();
+        assertThat(emailBloomFilter.mightContain(NEW_EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("put으로 더한 이메일은 mightContain이 true를 리턴한다.")
+    void put() {
+        emailBloomFilter.rebuild();
+
+        emailBloomFilter.put(NEW_EMAIL);
+
+        assertThat(emailBloomFilter.mightContain(NEW_EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터를 만들기 전에 put으로 더한 이메일도 처음 만든 필터에 들어간다.")
+    void putBeforeFirstRebuild() {
+        emailBloomFilter.put(NEW_EMAIL);
+
+        emailBloomFilter.start();
+
+        assertThat(emailBloomFilter.mightContain(NEW_EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild는 다른 서버에서 가입한 이메일을 반영한다.")
+    void rebuildWithEmailRegisteredElsewhere() {
+        emailBloomFilter.start();
+        assertThat(emailBloomFilter.mightContain(NEW_EMAIL)).isFalse();
+
+        given(userRepository.streamAllEmails())
+                .will(invocation -> Stream.of(EXISTING_EMAIL, NEW_EMAIL));
+        emailBloomFilter.rebuild();
+
+        assertThat(emailBloomFilter.mightContain(NEW_EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("bindTo는 조회 결과와 오탐 수를 지표로 등록한다.")
+    void bindTo() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        emailBloomFilter.bindTo(registry);
+        emailBloomFilter.rebuild();
+
+        emailBloomFilter.mightContain(NEW_EMAIL);
+        emailBloomFilter.mightContain(EXISTING_EMAIL);
+        emailBloomFilter.recordFalsePositive();
+
+        assertThat(registry.get("user.email.filter.checks")
+                .tag("result", "definitely_free").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("user.email.filter.checks")
+                .tag("result", "possible_hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("user.email.filter.false.positives")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("user.email.filter.expected.fpp").gauge().value())
+                .isLessThan(0.01);
+    }
+}
@@ -0,0 +1,82 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.dto.InventoryResultData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventoryCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private InventoryCache inventoryCache;
+
+    @BeforeEach
+    void setUp() {
+        inventoryCache = new InventoryCache(100, 10);
+    }
+
+    @Test
+    @DisplayName("get은 읽은 목록을 보관하고 다음 조회부터 loader를 부르지 않는다.")
+    void get() {
+        List<InventoryResultData> loaded = List.of(inventory(1L));
+
+        assertThat(inventoryCache.get(USER_ID, () -> loaded)).isEqualTo(loaded);
+        assertThat(inventoryCache.get(USER_ID, () -> {
+            throw new AssertionError("loader should not be called");
+        })).isEqualTo(loaded);
+    }
+
+    @Test
+    @DisplayName("evict는 목록을 읽는 중에 호출되면 읽은 목록이 보관되지 않게 한다.")
+    void evictWhileLoading() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<InventoryResultData> stale = List.of(inventory(1L));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<InventoryResultData>> firstRead = executor.submit(() ->
+                    inventoryCache.get(USER_ID, () -> {
+                        loading.countDown();
+                        try {
+                            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return stale;
+                    }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            inventoryCache.evict(USER_ID);
+            release.countDown();
+
+            assertThat(firstRead.get(5, TimeUnit.SECONDS)).isEqualTo(stale);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(inventoryCache.getIfPresent(USER_ID)).isEmpty();
+
+        List<InventoryResultData> fresh = List.of(inventory(2L), inventory(1L));
+        assertThat(inventoryCache.get(USER_ID, () -> fresh)).isEqualTo(fresh);
+        assertThat(inventoryCache.getIfPresent(USER_ID)).hasValue(fresh);
+    }
+
+    private InventoryResultData inventory(Long inventoryId) {
+        return InventoryResultData.builder()
+                .inventoryId(inventoryId)
+                .cardId(1L)
+                .userInputSubject("그 사람한테 연락올까")
+                .build();
+    }
+}
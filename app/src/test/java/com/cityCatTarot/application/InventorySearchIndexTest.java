@@ -0,0 +1,160 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.Inventory;
+import com.cityCatTarot.domain.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class InventorySearchIndexTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+
+    private InventorySearchIndex inventorySearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        inventorySearchIndex = new InventorySearchIndex(inventoryRepository, 100, 10);
+
+        given(inventoryRepository.streamByUserId(USER_ID)).will(invocation -> Stream.of(
+                inventory(3L, "짝사랑이 연락 올까요?"),
+                inventory(2L, "이직해도 될까"),
+                inventory(1L, "그 사람한테 연락올까")));
+    }
+
+    @Test
+    @DisplayName("search는 질문에 검색어가 들어 있는 카드를 최근에 저장한 순서로 리턴한다.")
+    void search() {
+        assertThat(inventorySearchIndex.search(USER_ID, "연락 올까", 10))
+                .extracting(Inventory::getInventoryId)
+                .containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("search는 n-gram이 모두 있어도 검색어가 이어져 있지 않으면 리턴하지 않는다.")
+    void searchWithScatteredTerms() {
+        assertThat(inventorySearchIndex.search(USER_ID, "올까연락", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search는 최대 개수만큼만 리턴하고, 색인은 한 번만 만든다.")
+    void searchWithLimit() {
+        assertThat(inventorySearchIndex.search(USER_ID, "까", 2))
+                .extracting(Inventory::getInventoryId)
+                .containsExactly(3L, 2L);
+        assertThat(inventorySearchIndex.search(USER_ID, "이직", 10)).hasSize(1);
+
+        verify(inventoryRepository, times(1)).streamByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("add와 remove는 만들어진 색인을 바로 고친다.")
+    void addAndRemove() {
+        inventorySearchIndex.search(USER_ID, "연락", 10);
+
+        inventorySearchIndex.add(List.of(inventory(4L, "연락 기다려도 될까")));
+        inventorySearchIndex.remove(USER_ID, List.of(3L));
+
+        assertThat(inventorySearchIndex.search(USER_ID, "연락", 10))
+                .extracting(Inventory::getInventoryId)
+                .containsExactly(4L, 1L);
+        verify(inventoryRepository, times(1)).streamByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("search는 찾을 글자가 없는 검색어에 빈 목록을 리턴한다.")
+    void searchWithBlankQuery() {
+        assertThat(inventorySearchIndex.search(USER_ID, "  ?", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("add와 remove는 색인을 만드는 중에 커밋되어도 만든 색인에 적용된다.")
+    void addAndRemoveWhileLoading() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(inventoryRepository.streamByUserId(USER_ID)).will(invocation -> {
+            loading.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return Stream.of(
+                    inventory(3L, "짝사랑이 연락 올까요?"),
+                    inventory(1L, "그 사람한테 연락올까"));
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Inventory>> firstSearch = executor.submit(() ->
+                    inventorySearchIndex.search(USER_ID, "연락", 10));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            inventorySearchIndex.add(List.of(inventory(4L, "연락 기다려도 될까")));
+            inventorySearchIndex.remove(USER_ID, List.of(3L));
+            release.countDown();
+
+            assertThat(firstSearch.get(5, TimeUnit.SECONDS))
+                    .extracting(Inventory::getInventoryId)
+                    .containsExactly(4L, 1L);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(inventorySearchIndex.search(USER_ID, "연락", 10))
+                .extracting(Inventory::getInventoryId)
+                .containsExactly(4L, 1L);
+        verify(inventoryRepository, times(1)).streamByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("evict는 색인을 만드는 중에 커밋되면 만든 색인을 보관하지 않는다.")
+    void evictWhileLoading() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(inventoryRepository.streamByUserId(USER_ID)).will(invocation -> {
+            loading.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return Stream.of(inventory(1L, "그 사람한테 연락올까"));
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Inventory>> firstSearch = executor.submit(() ->
+                    inventorySearchIndex.search(USER_ID, "연락", 10));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            inventorySearchIndex.evict(USER_ID);
+            release.countDown();
+            firstSearch.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        given(inventoryRepository.streamByUserId(USER_ID)).will(invocation -> Stream.empty());
+
+        assertThat(inventorySearchIndex.search(USER_ID, "연락", 10)).isEmpty();
+        verify(inventoryRepository, times(2)).streamByUserId(USER_ID);
+    }
+
+    private Inventory inventory(Long inventoryId, String userInputSubject) {
+        return Inventory.builder()
+                .inventoryId(inventoryId)
+                .userId(USER_ID)
+                .cardId(1L)
+                .userInputSubject(userInputSubject)
+                .build();
+    }
+}
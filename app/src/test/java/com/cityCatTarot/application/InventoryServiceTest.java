@@ -1,24 +1,44 @@
 package com.cityCatTarot.application;
 
+import com.cityCatTarot.domain.Card;
+import com.cityCatTarot.domain.CardRepository;
 import com.cityCatTarot.domain.Inventory;
+import com.cityCatTarot.domain.InventoryCardCount;
 import com.cityCatTarot.domain.InventoryRepository;
 import com.cityCatTarot.domain.UserRepository;
+import com.cityCatTarot.dto.InventoryCardSummaryData;
+import com.cityCatTarot.dto.InventoryCategorySummaryData;
+import com.cityCatTarot.dto.InventoryDeleteResultData;
+import com.cityCatTarot.dto.InventoryPageData;
+import com.cityCatTarot.dto.InventoryResultData;
 import com.cityCatTarot.dto.InventorySaveData;
+import com.cityCatTarot.dto.InventorySummaryData;
 import com.cityCatTarot.errors.CardNotFoundException;
-import com.github.dozermapper.core.DozerBeanMapperBuilder;
-import com.github.dozermapper.core.Mapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 class InventoryServiceTest {
@@ -27,6 +47,7 @@ class InventoryServiceTest {
 
     private InventoryRepository inventoryRepository = mock(InventoryRepository.class);
     private UserRepository userRepository = mock(UserRepository.class);
+    private CardRepository cardRepository = mock(CardRepository.class);
 
     private final List<Inventory> inventories1 = new ArrayList<>();
     private final List<Inventory> inventories2 = new ArrayList<>();
@@ -46,12 +67,33 @@ class InventoryServiceTest {
     private String cardImageUrl_2 = "url2";
     private String cardTitle_2 = "카드제목2";
     private String cardDetail_2 = "카드내용2";
+    private Long notExistingCardId = 999L;
+
+    private final Clock clock = Clock.fixed(
+            Instant.parse("2021-04-20T03:00:00Z"), ZoneId.of("Asia/Seoul"));
 
     @BeforeEach
     void setUp() {
-        Mapper mapper = DozerBeanMapperBuilder.buildDefault();
+        inventoryService = new InventoryService(inventoryRepository, userRepository, cardRepository,
+                new InventoryCache(100, 10), Optional.empty(),
+                new InventorySearchIndex(inventoryRepository, 100, 10), clock,
+                mock(PlatformTransactionManager.class));
 
-        inventoryService = new InventoryService(mapper, inventoryRepository, userRepository);
+        given(cardRepository.findById(cardId_1)).willReturn(Optional.of(Card.builder()
+                .cardId(cardId_1)
+                .cardCategory(cardCategory_1)
+                .cardImageUrl(cardImageUrl_1)
+                .cardTitle(cardTitle_1)
+                .cardDetail(cardDetail_1)
+                .build()));
+
+        given(cardRepository.findById(cardId_2)).willReturn(Optional.of(Card.builder()
+                .cardId(cardId_2)
+                .cardCategory(cardCategory_2)
+                .cardImageUrl(cardImageUrl_2)
+                .cardTitle(cardTitle_2)
+                .cardDetail(cardDetail_2)
+                .build()));
 
         given(inventoryRepository.save(any(Inventory.class))).will(invocation -> {
             Inventory source = invocation.getArgument(0);
@@ -59,10 +101,6 @@ class InventoryServiceTest {
                     .userId(source.getUserId())
                     .cardId(source.getCardId())
                     .userInputSubject(source.getUserInputSubject())
-                    .cardCategory(source.getCardCategory())
-                    .cardImageUrl(source.getCardImageUrl())
-                    .cardTitle(source.getCardTitle())
-                    .cardDetail(source.getCardDetail())
                     .build();
         });
 
@@ -70,45 +108,31 @@ class InventoryServiceTest {
                 .userId(userId_1)
                 .cardId(cardId_1)
                 .userInputSubject(userInputSubject_1)
-                .cardCategory(cardCategory_1)
-                .cardImageUrl(cardImageUrl_1)
-                .cardTitle(cardTitle_1)
-                .cardDetail(cardDetail_1)
                 .build();
         inventories1.add(inventorySaveData1);
-        given(inventoryRepository.findByUserId(userId_1)).willReturn(inventories1);
+        given(inventoryRepository.findByUserId(userId_1, null, 101)).willReturn(inventories1);
 
         Inventory inventorySaveData2 = Inventory.builder()
                 .inventoryId(inventoryId_2)
                 .userId(userId_2)
                 .cardId(cardId_2)
                 .userInputSubject(userInputSubject_2)
-                .cardCategory(cardCategory_2)
-                .cardImageUrl(cardImageUrl_2)
-                .cardTitle(cardTitle_2)
-                .cardDetail(cardDetail_2)
                 .build();
         inventories2.add(inventorySaveData2);
-        given(inventoryRepository.findByUserId(userId_2)).willReturn(inventories2);
+        given(inventoryRepository.findByUserId(userId_2, null, 101)).willReturn(inventories2);
 
     }
 
     @Test
-    @DisplayName("saveCardDetail은 유효한 정보가 주어지면 보관함에 카드를 저장한다.")
+    @DisplayName("saveCardDetail은 유효한 정보가 주어지면 보관함에 카드 식별자를 저장하고 카드 내용을 채워 리턴한다.")
     void saveCardDetail() {
         InventorySaveData inventorySaveData = InventorySaveData.builder()
-                .userId(userId_1)
                 .cardId(cardId_1)
                 .userInputSubject(userInputSubject_1)
-                .cardCategory(cardCategory_1)
-                .cardImageUrl(cardImageUrl_1)
-                .cardTitle(cardTitle_1)
-                .cardDetail(cardDetail_1)
                 .build();
 
-        Inventory inventory = inventoryService.saveCardDetail(inventorySaveData, userId_1);
+        InventoryResultData inventory = inventoryService.saveCardDetail(inventorySaveData, userId_1);
 
-        assertThat(inventory.getUserId()).isEqualTo(userId_1);
         assertThat(inventory.getCardId()).isEqualTo(cardId_1);
         assertThat(inventory.getUserInputSubject()).isEqualTo(userInputSubject_1);
         assertThat(inventory.getCardCategory()).isEqualTo(cardCategory_1);
@@ -116,16 +140,100 @@ class InventoryServiceTest {
         assertThat(inventory.getCardTitle()).isEqualTo(cardTitle_1);
         assertThat(inventory.getCardDetail()).isEqualTo(cardDetail_1);
 
-        verify(inventoryRepository).save(any(Inventory.class));
+        ArgumentCaptor<Inventory> saved = ArgumentCaptor.forClass(Inventory.class);
+        verify(inventoryRepository).save(saved.capture());
+        assertThat(saved.getValue().getUserId()).isEqualTo(userId_1);
+        assertThat(saved.getValue().getCardId()).isEqualTo(cardId_1);
+        assertThat(saved.getValue().getSavedAt()).isEqualTo(LocalDateTime.of(2021, 4, 20, 12, 0));
+    }
+
+    @Test
+    @DisplayName("saveCardDetail은 쓰기 지연이 켜져 있으면 저장소 대신 대기열에 넣고 할당된 식별자를 리턴하며, 색인은 저장된 뒤에 고친다.")
+    void saveCardDetailWithWriteBehind() {
+        InventoryWriteBehindBuffer buffer = mock(InventoryWriteBehindBuffer.class);
+        given(buffer.enqueue(any(Inventory.class))).will(invocation -> {
+            Inventory source = invocation.getArgument(0);
+            return Inventory.builder()
+                    .inventoryId(inventoryId_2)
+                    .userId(source.getUserId())
+                    .cardId(source.getCardId())
+                    .userInputSubject(source.getUserInputSubject())
+                    .build();
+        });
+        InventorySearchIndex inventorySearchIndex = mock(InventorySearchIndex.class);
+        inventoryService = new InventoryService(inventoryRepository, userRepository, cardRepository,
+                new InventoryCache(100, 10), Optional.of(buffer),
+                inventorySearchIndex, clock,
+                mock(PlatformTransactionManager.class));
+
+        InventoryResultData inventory = inventoryService.saveCardDetail(InventorySaveData.builder()
+                .cardId(cardId_1)
+                .userInputSubject(userInputSubject_1)
+                .build(), userId_1);
+
+        assertThat(inventory.getInventoryId()).isEqualTo(inventoryId_2);
+        assertThat(inventory.getCardTitle()).isEqualTo(cardTitle_1);
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+        verify(inventorySearchIndex, never()).add(any());
+    }
+
+    @Test
+    @DisplayName("saveCardDetail은 저장되지 않은 카드 식별자가 주어지면 예외를 던진다.")
+    void saveCardDetailWithNotExistingCard() {
+        given(cardRepository.findById(notExistingCardId)).willReturn(Optional.empty());
+
+        InventorySaveData inventorySaveData = InventorySaveData.builder()
+                .cardId(notExistingCardId)
+                .userInputSubject(userInputSubject_1)
+                .build();
+
+        assertThatThrownBy(() -> inventoryService.saveCardDetail(inventorySaveData, userId_1))
+                .isInstanceOf(CardNotFoundException.class);
+
+        verify(inventoryRepository, never()).save(any(Inventory.class));
     }
 
     @Test
-    @DisplayName("findCardListWithUserId은 식별자에 해당하는 회원이 저장한 카드 목록을 불러온다.")
+    @DisplayName("saveCardDetails는 여러 장의 카드를 한 번에 저장하고 요청한 순서대로 리턴한다.")
+    void saveCardDetails() {
+        given(inventoryRepository.saveAll(any())).will(invocation -> invocation.getArgument(0));
+
+        List<InventoryResultData> inventories = inventoryService.saveCardDetails(Arrays.asList(
+                InventorySaveData.builder().cardId(cardId_2).userInputSubject(userInputSubject_2).build(),
+                InventorySaveData.builder().cardId(cardId_1).userInputSubject(userInputSubject_1).build()),
+                userId_1);
+
+        assertThat(inventories)
+                .extracting(InventoryResultData::getCardTitle)
+                .containsExactly(cardTitle_2, cardTitle_1);
+
+        verify(inventoryRepository).saveAll(any());
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+    }
+
+    @Test
+    @DisplayName("saveCardDetails는 저장되지 않은 카드 식별자가 하나라도 있으면 아무것도 저장하지 않는다.")
+    void saveCardDetailsWithNotExistingCard() {
+        given(cardRepository.findById(notExistingCardId)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> inventoryService.saveCardDetails(Arrays.asList(
+                InventorySaveData.builder().cardId(cardId_1).build(),
+                InventorySaveData.builder().cardId(notExistingCardId).build()),
+                userId_1))
+                .isInstanceOf(CardNotFoundException.class);
+
+        verify(inventoryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("findCardListWithUserId은 식별자에 해당하는 회원이 저장한 카드 목록을 카드 내용과 함께 불러온다.")
     void findCardListWithUserId() {
-        List<Inventory> inventories = inventoryService.findCardListWithUserId(userId_2);
+        InventoryPageData page = inventoryService.findCardListWithUserId(userId_2, null, 20);
+        List<InventoryResultData> inventories = page.getInventories();
 
+        assertThat(page.getNextCursor()).isNull();
         assertThat(inventories.size()).isEqualTo(1);
-        assertThat(inventories.get(0).getUserId()).isEqualTo(userId_2);
+        assertThat(inventories.get(0).getInventoryId()).isEqualTo(inventoryId_2);
         assertThat(inventories.get(0).getCardId()).isEqualTo(cardId_2);
         assertThat(inventories.get(0).getUserInputSubject()).isEqualTo(userInputSubject_2);
         assertThat(inventories.get(0).getCardCategory()).isEqualTo(cardCategory_2);
@@ -135,10 +243,123 @@ class InventoryServiceTest {
     }
 
     @Test
-    @DisplayName("deleteCardDetail은 올바른 식별자가 주어지면 그 식별자에 해당하는 카드를 삭제한다.")
+    @DisplayName("findCardListWithUserId은 다음 페이지가 있으면 마지막 카드의 식별자를 다음 커서로 리턴한다.")
+    void findCardListWithUserIdAndCursor() {
+        given(inventoryRepository.findByUserId(userId_1, 30L, 3)).willReturn(Arrays.asList(
+                Inventory.builder().inventoryId(29L).userId(userId_1).cardId(cardId_1).build(),
+                Inventory.builder().inventoryId(25L).userId(userId_1).cardId(cardId_1).build(),
+                Inventory.builder().inventoryId(21L).userId(userId_1).cardId(cardId_1).build()));
+
+        InventoryPageData page = inventoryService.findCardListWithUserId(userId_1, 30L, 2);
+
+        assertThat(page.getInventories())
+                .extracting(InventoryResultData::getInventoryId)
+                .containsExactly(29L, 25L);
+        assertThat(page.getNextCursor()).isEqualTo(25L);
+    }
+
+    @Test
+    @DisplayName("findCardListWithUserId은 같은 회원의 목록을 다시 조회하면 저장소를 다시 조회하지 않는다.")
+    void findCardListWithUserIdFromCache() {
+        inventoryService.findCardListWithUserId(userId_2, null, 20);
+        InventoryPageData page = inventoryService.findCardListWithUserId(userId_2, null, 10);
+
+        assertThat(page.getInventories()).hasSize(1);
+        verify(inventoryRepository, times(1)).findByUserId(userId_2, null, 101);
+    }
+
+    @Test
+    @DisplayName("findCardListWithUserId은 카드를 저장하거나 삭제한 뒤에는 저장소에서 다시 조회한다.")
+    void findCardListWithUserIdAfterWrite() {
+        inventoryService.findCardListWithUserId(userId_1, null, 20);
+
+        inventoryService.saveCardDetail(InventorySaveData.builder()
+                .cardId(cardId_1)
+                .userInputSubject(userInputSubject_1)
+                .build(), userId_1);
+        inventoryService.findCardListWithUserId(userId_1, null, 20);
+
+        inventoryService.deleteCardDetail(userId_1, inventoryId_2);
+        inventoryService.findCardListWithUserId(userId_1, null, 20);
+
+        verify(inventoryRepository, times(3)).findByUserId(userId_1, null, 101);
+    }
+
+    @Test
+    @DisplayName("forEachCardDetail은 회원이 저장한 카드를 페이지로 나눠 읽어 카드 내용과 함께 하나씩 전달한다.")
+    void forEachCardDetail() {
+        List<Inventory> firstPage = LongStream.iterate(1_000L, id -> id - 1)
+                .limit(500)
+                .mapToObj(id -> Inventory.builder()
+                        .inventoryId(id)
+                        .userId(userId_2)
+                        .cardId(cardId_2)
+                        .userInputSubject(userInputSubject_2)
+                        .build())
+                .collect(Collectors.toList());
+        given(inventoryRepository.findByUserId(userId_2, null, 500)).willReturn(firstPage);
+        given(inventoryRepository.findByUserId(userId_2, 501L, 500)).willReturn(inventories2);
+
+        List<InventoryResultData> exported = new ArrayList<>();
+        inventoryService.forEachCardDetail(userId_2, exported::add);
+
+        assertThat(exported).hasSize(501);
+        assertThat(exported)
+                .extracting(InventoryResultData::getCardTitle)
+                .containsOnly(cardTitle_2);
+        verify(inventoryRepository).findByUserId(userId_2, null, 500);
+        verify(inventoryRepository).findByUserId(userId_2, 501L, 500);
+        verify(inventoryRepository, never()).streamByUserId(userId_2);
+    }
+
+    @Test
+    @DisplayName("getSummary는 카드별 집계로 카테고리별, 카드별 저장 횟수와 마지막 저장 시각을 리턴한다.")
+    void getSummary() {
+        LocalDateTime earlier = LocalDateTime.of(2021, 4, 1, 9, 0);
+        LocalDateTime later = LocalDateTime.of(2021, 4, 19, 21, 30);
+        given(inventoryRepository.countByCardId(userId_1)).willReturn(Arrays.asList(
+                new InventoryCardCount(cardId_1, 2L, earlier),
+                new InventoryCardCount(cardId_2, 5L, later)));
+
+        InventorySummaryData summary = inventoryService.getSummary(userId_1);
+
+        assertThat(summary.getTotalCount()).isEqualTo(7L);
+        assertThat(summary.getLastSavedAt()).isEqualTo(later);
+        assertThat(summary.getCards())
+                .extracting(InventoryCardSummaryData::getCardId)
+                .containsExactly(cardId_2, cardId_1);
+        assertThat(summary.getCategories())
+                .extracting(InventoryCategorySummaryData::getCardCategory,
+                        InventoryCategorySummaryData::getCount)
+                .containsExactly(tuple(cardCategory_1, 2L), tuple(cardCategory_2, 5L));
+    }
+
+    @Test
+    @DisplayName("deleteCardDetail은 올바른 식별자가 주어지면 회원의 카드 중 그 식별자에 해당하는 카드를 삭제한다.")
     void deleteCardDetail(){
-        inventoryService.deleteCardDetail(userId_2);
+        inventoryService.deleteCardDetail(userId_2, inventoryId_2);
+
+        verify(inventoryRepository).deleteAllByUserId(userId_2, List.of(inventoryId_2));
+    }
+
+    @Test
+    @DisplayName("deleteCardDetails는 회원의 카드 중 전달된 식별자에 해당하는 카드를 삭제하고 삭제된 개수를 리턴한다.")
+    void deleteCardDetails() {
+        List<Long> inventoryIds = Arrays.asList(21L, 25L, 29L);
+        given(inventoryRepository.deleteAllByUserId(userId_1, inventoryIds)).willReturn(2);
+
+        InventoryDeleteResultData result = inventoryService.deleteCardDetails(userId_1, inventoryIds);
+
+        assertThat(result.getDeletedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("deleteAllCardDetails는 회원의 카드를 모두 삭제하고 삭제된 개수를 리턴한다.")
+    void deleteAllCardDetails() {
+        given(inventoryRepository.deleteAllByUserId(userId_1)).willReturn(3);
+
+        InventoryDeleteResultData result = inventoryService.deleteAllCardDetails(userId_1);
 
-        verify(inventoryRepository).delete(userId_2);
+        assertThat(result.getDeletedCount()).isEqualTo(3);
     }
 }
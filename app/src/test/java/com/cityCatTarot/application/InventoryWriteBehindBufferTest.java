@@ -0,0 +1,205 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.domain.Inventory;
+import com.cityCatTarot.domain.InventoryRepository;
+import com.cityCatTarot.errors.InventoryWriteBufferFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class InventoryWriteBehindBufferTest {
+
+    private static final long BAD_CARD_ID = 999L;
+
+    private final InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final InventorySearchIndex inventorySearchIndex = mock(InventorySearchIndex.class);
+
+    private final List<Inventory> written = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        given(inventoryRepository.nextInventoryId()).will(invocation -> sequence.incrementAndGet());
+        doAnswer(invocation -> {
+            written.addAll(invocation.getArgument(0));
+            return null;
+        }).when(inventoryRepository).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("enqueue는 식별자를 할당해 바로 리턴하고, 종료할 때 남은 카드를 모두 저장한다.")
+    void enqueueAndDrainOnShutdown() throws InterruptedException {
+        InventoryWriteBehindBuffer buffer = createBuffer(100);
+        buffer.start();
+
+        Inventory first = buffer.enqueue(inventory(1L));
+        Inventory second = buffer.enqueue(inventory(2L));
+        buffer.shutdown();
+
+        assertThat(first.getInventoryId()).isEqualTo(1L);
+        assertThat(second.getInventoryId()).isEqualTo(2L);
+        assertThat(written)
+                .extracting(Inventory::getInventoryId)
+                .containsExactly(1L, 2L);
+        verify(inventorySearchIndex, atLeastOnce()).add(argThat(inventories ->
+                inventories.stream().anyMatch(inventory -> inventory.getInventoryId() == 1L)));
+    }
+
+    @Test
+    @DisplayName("enqueue는 대기열이 가득 차면 예외를 던진다.")
+    void enqueueWhenFull() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            written.addAll(invocation.getArgument(0));
+            return null;
+        }).when(inventoryRepository).insertAll(any());
+
+        InventoryWriteBehindBuffer buffer = createBuffer(1);
+        buffer.start();
+
+        buffer.enqueue(inventory(1L));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.enqueue(inventory(2L));
+
+        assertThatThrownBy(() -> buffer.enqueue(inventory(3L)))
+                .isInstanceOf(InventoryWriteBufferFullException.class);
+
+        release.countDown();
+        buffer.shutdown();
+
+        assertThat(written).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("enqueue는 종료와 동시에 호출되어도, 식별자를 리턴한 카드는 모두 저장한다.")
+    void enqueueWhileShuttingDown() throws InterruptedException {
+        InventoryWriteBehindBuffer buffer = createBuffer(10_000);
+        buffer.start();
+
+        List<Long> accepted = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            started.countDown();
+            while (true) {
+                try {
+                    accepted.add(buffer.enqueue(inventory(1L)).getInventoryId());
+                } catch (InventoryWriteBufferFullException e) {
+                    return;
+                }
+            }
+        });
+        producer.start();
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.shutdown();
+        producer.join();
+
+        assertThat(written)
+                .extracting(Inventory::getInventoryId)
+                .containsExactlyInAnyOrderElementsOf(accepted);
+        assertThatThrownBy(() -> buffer.enqueue(inventory(2L)))
+                .isInstanceOf(InventoryWriteBufferFullException.class);
+    }
+
+    @Test
+    @DisplayName("저장이 오래 실패해도 카드를 버리지 않고 다시 시도하며, 실패하는 동안에는 새 저장 요청을 거절한다.")
+    void retryUntilDatabaseRecovers() throws InterruptedException {
+        CountDownLatch failedAttempts = new CountDownLatch(10);
+        AtomicBoolean recovered = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (!recovered.get()) {
+                failedAttempts.countDown();
+                throw new TransientDataAccessResourceException("database is failing over");
+            }
+            written.addAll(invocation.getArgument(0));
+            return null;
+        }).when(inventoryRepository).insertAll(any());
+
+        InventoryWriteBehindBuffer buffer = createBuffer(100);
+        buffer.start();
+
+        buffer.enqueue(inventory(1L));
+        buffer.enqueue(inventory(2L));
+        assertThat(failedAttempts.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> buffer.enqueue(inventory(3L)))
+                .isInstanceOf(InventoryWriteBufferFullException.class);
+
+        recovered.set(true);
+        buffer.shutdown();
+
+        assertThat(written)
+                .extracting(Inventory::getCardId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("데이터 때문에 배치 저장이 실패하면 문제가 되는 카드만 dead letter로 남기고 나머지는 저장한다.")
+    void deadLetterOnlyTheBadInventory() throws InterruptedException {
+        doAnswer(invocation -> {
+            List<Inventory> inventories = invocation.getArgument(0);
+            if (inventories.stream().anyMatch(inventory -> inventory.getCardId() == BAD_CARD_ID)) {
+                throw new DataIntegrityViolationException("card_id");
+            }
+            written.addAll(inventories);
+            return null;
+        }).when(inventoryRepository).insertAll(any());
+
+        InventoryWriteBehindBuffer buffer = createBuffer(100);
+        buffer.enqueue(inventory(1L));
+        buffer.enqueue(inventory(BAD_CARD_ID));
+        buffer.enqueue(inventory(2L));
+        buffer.enqueue(inventory(3L));
+
+        buffer.start();
+        buffer.shutdown();
+
+        assertThat(written)
+                .extracting(Inventory::getCardId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(inventoryRepository, times(1)).insertDeadLetter(
+                argThat(inventory -> inventory.getCardId() == BAD_CARD_ID), anyString());
+        verify(inventorySearchIndex, never()).add(argThat(inventories ->
+                inventories.stream().anyMatch(inventory -> inventory.getCardId() == BAD_CARD_ID)));
+    }
+
+    private InventoryWriteBehindBuffer createBuffer(int capacity) {
+        return new InventoryWriteBehindBuffer(inventoryRepository, new InventoryCache(100, 10),
+                inventorySearchIndex, transactionManager, capacity, 50, 10, 1, 5, 1000);
+    }
+
+    private Inventory inventory(Long cardId) {
+        return Inventory.builder()
+                .userId(1L)
+                .cardId(cardId)
+                .userInputSubject("질문")
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.errors.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        passwordHasher = new PasswordHasher(passwordEncoder, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("encode는 해시 스레드에서 비밀번호를 암호화한다.")
+    void encode() {
+        String encoded = passwordHasher.encode("password").join();
+
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+    }
+
+    @Test
+    @DisplayName("submit은 대기열이 가득 차면 기다리지 않고 예외를 던진다.")
+    void submitWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        passwordHasher.submit(() -> {
+            started.countDown();
+            awaitUninterruptibly(release);
+            return null;
+        });
+        started.await();
+        passwordHasher.submit(() -> null);
+
+        try {
+            assertThatThrownBy(() -> passwordHasher.submit(() -> null))
+                    .isInstanceOf(PasswordHashingBusyException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
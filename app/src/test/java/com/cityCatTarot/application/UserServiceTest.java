@@ -5,7 +5,9 @@ import com.cityCatTarot.domain.RoleRepository;
 import com.cityCatTarot.domain.User;
 import com.cityCatTarot.domain.UserRepository;
 import com.cityCatTarot.dto.UserModificationData;
+import com.cityCatTarot.dto.UserPageData;
 import com.cityCatTarot.dto.UserRegistrationData;
+import com.cityCatTarot.dto.UserResultData;
 import com.cityCatTarot.errors.UserEmailDuplicationException;
 import com.cityCatTarot.errors.UserNotFoundException;
 import com.github.dozermapper.core.DozerBeanMapperBuilder;
@@ -13,17 +15,28 @@ import com.github.dozermapper.core.Mapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 class UserServiceTest {
@@ -32,6 +45,7 @@ class UserServiceTest {
 
     private final UserRepository userRepository = mock(UserRepository.class);
     private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final RolesVersionCache rolesVersionCache = mock(RolesVersionCache.class);
 
     private final String USER_EMAIL = "olive@email.coz";
     private final String USER_NICKNAME = "testNickName";
@@ -50,8 +64,19 @@ class UserServiceTest {
         Mapper mapper = DozerBeanMapperBuilder.buildDefault();
         PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
+        given(userRepository.streamAllEmails())
+                .will(invocation -> Stream.of(EXISTING_EMAIL_ADDRESS));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+        EmailBloomFilter emailBloomFilter = new EmailBloomFilter(
+                userRepository, transactionManager, 1000, 0.01, 0);
+        emailBloomFilter.rebuild();
+
         userService = new UserService(
-                mapper, userRepository, roleRepository, passwordEncoder);
+                mapper, userRepository, roleRepository, passwordEncoder, emailBloomFilter,
+                new PasswordHasher(passwordEncoder, 1, 10), transactionManager, rolesVersionCache,
+                new SyncTaskExecutor());
 
         given(userRepository.save(any(User.class))).will(invocation -> {
             User source = invocation.getArgument(0);
@@ -59,6 +84,7 @@ class UserServiceTest {
                     .id(USER_ID)
                     .email(source.getEmail())
                     .nickName(source.getNickName())
+                    .password(source.getPassword())
                     .build();
         });
 
@@ -84,11 +110,12 @@ class UserServiceTest {
                 .password(USER_PASSWORD)
                 .build();
 
-        User user = userService.registerUser(registrationData);
+        User user = userService.registerUser(registrationData).join();
 
         assertThat(user.getId()).isEqualTo(USER_ID);
         assertThat(user.getEmail()).isEqualTo(USER_EMAIL);
         assertThat(user.getNickName()).isEqualTo(USER_NICKNAME);
+        assertThat(user.authenticate(USER_PASSWORD, new BCryptPasswordEncoder())).isTrue();
 
         verify(userRepository).save(any(User.class));
         verify(roleRepository).save(any(Role.class));
@@ -109,6 +136,27 @@ class UserServiceTest {
         verify(userRepository).existsByEmail(EXISTING_EMAIL_ADDRESS);
     }
 
+    @Test
+    @DisplayName("회원가입 시 같은 이메일이 먼저 저장되어 제약 조건을 위반하면 이메일 중복 예외를 던진다.")
+    void registerUserWithConcurrentlyDuplicatedEmail() {
+        UserRegistrationData registrationData = UserRegistrationData.builder()
+                .email(USER_EMAIL)
+                .nickName(USER_NICKNAME)
+                .password(USER_PASSWORD)
+                .build();
+
+        given(userRepository.existsByEmail(USER_EMAIL))
+                .willReturn(false, true);
+        willThrow(new DataIntegrityViolationException("uk_user_email"))
+                .given(userRepository).save(any(User.class));
+
+        assertThatThrownBy(() -> userService.registerUser(registrationData).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UserEmailDuplicationException.class);
+
+        verify(roleRepository, never()).save(any(Role.class));
+    }
+
     @Test
     @DisplayName("회원정보 수정 시 등록된 아이디와 수정 정보가 주어지면 회원 정보가 수정된다.")
     void updateUserWithExistingId() throws AccessDeniedException {
@@ -168,8 +216,10 @@ class UserServiceTest {
 
         assertThat(user.getId()).isEqualTo(USER_ID);
         assertThat(user.isDeleted()).isTrue();
+        assertThat(user.getRolesVersion()).isEqualTo(1L);
 
         verify(userRepository).findById(USER_ID);
+        verify(rolesVersionCache).evict(USER_ID);
     }
 
     @Test
@@ -181,4 +231,87 @@ class UserServiceTest {
         verify(userRepository).findById(NOT_EXISTING_ID);
     }
 
+    @Test
+    @DisplayName("회원정보 조회 시 등록된 회원이 주어지면 비밀번호를 뺀 회원 정보를 리턴한다.")
+    void findUserInfoDataWithExistingId() {
+        given(userRepository.findUserResultDataById(USER_ID)).willReturn(Optional.of(
+                UserResultData.builder()
+                        .id(USER_ID)
+                        .email(USER_EMAIL)
+                        .nickName(USER_NICKNAME)
+                        .build()));
+
+        UserResultData user = userService.findUserInfoData(USER_ID);
+
+        assertThat(user.getEmail()).isEqualTo(USER_EMAIL);
+        assertThat(user.getNickName()).isEqualTo(USER_NICKNAME);
+    }
+
+    @Test
+    @DisplayName("회원정보 조회 시 등록되지 않은 회원이 주어지면 예외를 던진다.")
+    void findUserInfoDataWithNotExistingId() {
+        given(userRepository.findUserResultDataById(NOT_EXISTING_ID)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.findUserInfoData(NOT_EXISTING_ID))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+
+    @Test
+    @DisplayName("이메일 중복 확인 시 가입되지 않은 이메일이 주어지면 저장소를 조회하지 않고 true를 리턴한다.")
+    void emailDuplicationCheckWithFreeEmail() {
+        assertThat(userService.emailDuplicationCheck(USER_EMAIL)).isTrue();
+
+        verify(userRepository, never()).existsByEmail(USER_EMAIL);
+    }
+
+    @Test
+    @DisplayName("이메일 중복 확인 시 가입된 이메일이 주어지면 false를 리턴한다.")
+    void emailDuplicationCheckWithExistingEmail() {
+        assertThat(userService.emailDuplicationCheck(EXISTING_EMAIL_ADDRESS)).isFalse();
+
+        verify(userRepository).existsByEmail(EXISTING_EMAIL_ADDRESS);
+    }
+
+    @Test
+    @DisplayName("회원 목록 조회 시 다음 회원이 있으면 한 페이지와 다음 커서를 리턴한다.")
+    void getUsersWithNextPage() {
+        given(userRepository.findUserResultData(10L, 3)).willReturn(userResultData(11L, 13L));
+
+        UserPageData page = userService.getUsers(10L, 2);
+
+        assertThat(page.getUsers()).extracting(UserResultData::getId).containsExactly(11L, 12L);
+        assertThat(page.getNextCursor()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("회원 목록 조회 시 마지막 페이지면 다음 커서 없이 리턴한다.")
+    void getUsersWithLastPage() {
+        given(userRepository.findUserResultData(null, 101)).willReturn(userResultData(1L, 2L));
+
+        UserPageData page = userService.getUsers(null, 1000);
+
+        assertThat(page.getUsers()).hasSize(2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("forEachUser는 전체 회원을 페이지로 나눠 읽어 식별자 순서로 하나씩 전달한다.")
+    void forEachUser() {
+        given(userRepository.findUserResultData(null, 500)).willReturn(userResultData(1L, 500L));
+        given(userRepository.findUserResultData(500L, 500)).willReturn(userResultData(501L, 502L));
+
+        List<Long> exported = new ArrayList<>();
+        userService.forEachUser(user -> exported.add(user.getId()));
+
+        assertThat(exported).hasSize(502);
+        assertThat(exported).startsWith(1L).endsWith(502L);
+        verify(userRepository).findUserResultData(500L, 500);
+    }
+
+    private List<UserResultData> userResultData(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> UserResultData.builder().id(id).build())
+                .collect(Collectors.toList());
+    }
 }
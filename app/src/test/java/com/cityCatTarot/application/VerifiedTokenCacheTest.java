@@ -0,0 +1,82 @@
+package com.cityCatTarot.application;
+
+import com.cityCatTarot.application.VerifiedTokenCache.VerifiedToken;
+import com.cityCatTarot.domain.Role;
+import com.cityCatTarot.errors.InvalidTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2021-04-20T03:00:00Z");
+    private static final String TOKEN = "a.b.c";
+    private static final Long USER_ID = 1L;
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(
+                Clock.fixed(NOW, ZoneId.of("Asia/Seoul")), 100, 5);
+    }
+
+    @Test
+    @DisplayName("get은 같은 토큰이 다시 주어지면 검증하지 않고 보관된 결과를 리턴한다.")
+    void getWithCachedToken() {
+        Function<String, VerifiedToken> verifier = verifier(null);
+
+        VerifiedToken first = verifiedTokenCache.get(TOKEN, verifier);
+        VerifiedToken second = verifiedTokenCache.get(TOKEN, verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getUserId()).isEqualTo(USER_ID);
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("get은 보관된 토큰이 만료되었으면 다시 검증한다.")
+    void getWithExpiredToken() {
+        Function<String, VerifiedToken> verifier = verifier(NOW.minus(Duration.ofSeconds(1)));
+
+        verifiedTokenCache.get(TOKEN, verifier);
+        verifiedTokenCache.get(TOKEN, verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("get은 검증에 실패한 토큰을 보관하지 않는다.")
+    void getWithInvalidToken() {
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            throw new InvalidTokenException(token);
+        };
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> verifiedTokenCache.get(TOKEN, verifier))
+                    .isInstanceOf(InvalidTokenException.class);
+        }
+        assertThat(verifications).hasValue(2);
+    }
+
+    private Function<String, VerifiedToken> verifier(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken(USER_ID, List.of(new Role("USER")), 0L, expiresAt);
+        };
+    }
+}
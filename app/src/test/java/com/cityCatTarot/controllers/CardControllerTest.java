@@ -3,7 +3,9 @@ package com.cityCatTarot.controllers;
 import com.cityCatTarot.application.AuthenticationService;
 import com.cityCatTarot.application.CardService;
 import com.cityCatTarot.domain.Card;
+import com.cityCatTarot.errors.CardCategoryNotFoundException;
 import com.cityCatTarot.errors.CardNotFoundException;
+import com.cityCatTarot.errors.NotEnoughCardsException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,22 +14,28 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @WebMvcTest(CardController.class)
+@Import(CardResponseCache.class)
 class CardControllerTest {
 
     @Autowired
@@ -48,6 +56,7 @@ class CardControllerTest {
     private final Long EXISTING_CARD_ID_2 = 2L;
     private final Long NOT_EXISTING_ID = 999L;
     private final String EXISTING_CARD_CATEGORY = "todayTarot";
+    private final String NOT_EXISTING_CARD_CATEGORY = "notCategory";
     private final String IMAGE_URL = "url";
     private final String CARD_TITLE_1 = "마법사";
     private final String CARD_TITLE_2 = "여사제";
@@ -84,10 +93,24 @@ class CardControllerTest {
 
         given(cardService.getCards()).willReturn(cards);
 
-        given(cardService.getCard(EXISTING_CARD_ID_1)).willReturn(card_fool);
+        given(cardService.getCardsByCategory(EXISTING_CARD_CATEGORY)).willReturn(cards);
 
-        given(cardService.getCard(NOT_EXISTING_ID))
+        given(cardService.getCardsByCategory(NOT_EXISTING_CARD_CATEGORY))
+                .willThrow(new CardCategoryNotFoundException(NOT_EXISTING_CARD_CATEGORY));
+
+        given(cardService.getCard(EXISTING_CARD_CATEGORY, EXISTING_CARD_ID_1)).willReturn(card_fool);
+
+        given(cardService.getCard(EXISTING_CARD_CATEGORY, NOT_EXISTING_ID))
                 .willThrow(new CardNotFoundException(NOT_EXISTING_ID));
+
+        given(cardService.getCard(NOT_EXISTING_CARD_CATEGORY, EXISTING_CARD_ID_1))
+                .willThrow(new CardNotFoundException(EXISTING_CARD_ID_1));
+
+        given(cardService.drawCards(EXISTING_CARD_CATEGORY, 1))
+                .willReturn(Arrays.asList(card_magician));
+
+        given(cardService.drawCards(EXISTING_CARD_CATEGORY, 3))
+                .willThrow(new NotEnoughCardsException(EXISTING_CARD_CATEGORY, 3));
     }
 
     @Test
@@ -116,6 +139,24 @@ class CardControllerTest {
                 .andExpect(content().string("[]"));
     }
 
+    @Test
+    @DisplayName("GET /tarotChat/{cardCategory} 요청은 저장된 카테고리가 주어지면 200 코드와 카테고리에 속한 카드 목록을 응답한다.")
+    void listWithExistedCategory() throws Exception {
+        mockMvc.perform(get("/tarotChat/{cardCategory}", EXISTING_CARD_CATEGORY)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(TOTAl_CARD_COUNT)))
+                .andExpect(jsonPath("$[0].cardCategory").value(EXISTING_CARD_CATEGORY));
+    }
+
+    @Test
+    @DisplayName("GET /tarotChat/{cardCategory} 요청은 저장되지 않은 카테고리가 주어지면 404 코드를 응답한다.")
+    void listWithNotExistedCategory() throws Exception {
+        mockMvc.perform(get("/tarotChat/{cardCategory}", NOT_EXISTING_CARD_CATEGORY)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("GET /tarotChat/{cardCategory}/{cardId} 요청은 저장된 cardId가 주어지면 200 코드와 cardId에 일치하는 카드를 응답한다.")
     void detailWithExistedCardId() throws Exception {
@@ -140,4 +181,88 @@ class CardControllerTest {
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("GET /tarotChat/{cardCategory}/{cardId} 요청은 cardId가 다른 카테고리의 카드라면 404 코드를 응답한다.")
+    void detailWithWrongCategory() throws Exception {
+        mockMvc.perform(get("/tarotChat/{cardCategory}/{cardId}",
+                NOT_EXISTING_CARD_CATEGORY, EXISTING_CARD_ID_1)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("POST /tarotChat/draw 요청은 배열법이 주어지면 200 코드와 뽑은 카드 목록을 응답한다.")
+    void drawWithSpread() throws Exception {
+        mockMvc.perform(post("/tarotChat/draw")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"spread\":\"ONE_CARD\"," +
+                        "\"cardCategory\":\"" + EXISTING_CARD_CATEGORY + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("spread").value("ONE_CARD"))
+                .andExpect(jsonPath("cards", hasSize(1)))
+                .andExpect(jsonPath("cards[0].cardTitle").value(CARD_TITLE_2));
+    }
+
+    @Test
+    @DisplayName("POST /tarotChat/draw 요청은 카드가 모자라면 400 코드를 응답한다.")
+    void drawWithNotEnoughCards() throws Exception {
+        mockMvc.perform(post("/tarotChat/draw")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"spread\":\"THREE_CARD\"," +
+                        "\"cardCategory\":\"" + EXISTING_CARD_CATEGORY + "\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /tarotChat/draw 요청은 배열법이 없으면 400 코드를 응답한다.")
+    void drawWithoutSpread() throws Exception {
+        mockMvc.perform(post("/tarotChat/draw")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /tarotChat 요청은 ETag를 함께 응답하고, If-None-Match가 일치하면 304 코드를 응답한다.")
+    void getListWithMatchingETag() throws Exception {
+        String etag = mockMvc.perform(get("/tarotChat")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/tarotChat")
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /tarotChat/{cardCategory}/{cardId} 요청은 If-None-Match가 일치하면 304 코드를, 다르면 카드를 응답한다.")
+    void detailWithETag() throws Exception {
+        String etag = mockMvc.perform(get("/tarotChat/{cardCategory}/{cardId}",
+                EXISTING_CARD_CATEGORY, EXISTING_CARD_ID_1)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/tarotChat/{cardCategory}/{cardId}",
+                EXISTING_CARD_CATEGORY, EXISTING_CARD_ID_1)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/tarotChat/{cardCategory}/{cardId}",
+                EXISTING_CARD_CATEGORY, EXISTING_CARD_ID_1)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("cardTitle").value(CARD_TITLE_1));
+    }
 }
@@ -3,6 +3,7 @@ package com.cityCatTarot.controllers;
 import com.cityCatTarot.application.AuthenticationService;
 import com.cityCatTarot.errors.LoginFailWithNotFoundEmailException;
 import com.cityCatTarot.errors.LoginFailWithWrongPwException;
+import com.cityCatTarot.errors.PasswordHashingBusyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,11 +12,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SessionController.class)
@@ -30,24 +36,32 @@ class SessionControllerTest {
     @BeforeEach
     void setUp() {
         given(authenticationService.login("tester@example.com", "test"))
-                .willReturn("a.b.c");
+                .willReturn(CompletableFuture.completedFuture("a.b.c"));
 
         given(authenticationService.login("badguy@example.com", "test"))
                 .willThrow(new LoginFailWithNotFoundEmailException("badguy@example.com"));
 
         given(authenticationService.login("tester@example.com", "xxx"))
-                .willThrow(new LoginFailWithWrongPwException("tester@example.com"));
+                .willReturn(CompletableFuture.failedFuture(
+                        new LoginFailWithWrongPwException("tester@example.com")));
+
+        given(authenticationService.login("busy@example.com", "test"))
+                .willThrow(new PasswordHashingBusyException(100));
     }
 
     @Test
     @DisplayName("POST /session 요청은 등록된 이메일과 패스워드가 주어지면 액세스 토큰을 생성한다.")
     void loginWithRightEmailAndPassword() throws Exception {
-        mockMvc.perform(
+        MvcResult result = mockMvc.perform(
                 post("/session")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"email\":\"tester@example.com\"," +
                                 "\"password\":\"test\"}")
         )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isCreated())
                 .andExpect(content().string(containsString(".")));
     }
@@ -67,12 +81,28 @@ class SessionControllerTest {
     @Test
     @DisplayName("POST /session 요청은 잘못된 패스워드가 주어지면 500 에러를 던진다.")
     void loginWithWrongPassword() throws Exception {
-        mockMvc.perform(
+        MvcResult result = mockMvc.perform(
                 post("/session")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"email\":\"tester@example.com\"," +
                                 "\"password\":\"xxx\"}")
         )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    @DisplayName("POST /session 요청은 비밀번호 해시 대기열이 가득 차 있으면 503 에러를 던진다.")
+    void loginWhenHashingIsBusy() throws Exception {
+        mockMvc.perform(
+                post("/session")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"busy@example.com\"," +
+                                "\"password\":\"test\"}")
+        )
+                .andExpect(status().isServiceUnavailable());
+    }
 }
@@ -5,8 +5,12 @@ import com.cityCatTarot.application.UserService;
 import com.cityCatTarot.domain.Role;
 import com.cityCatTarot.domain.User;
 import com.cityCatTarot.dto.UserModificationData;
+import com.cityCatTarot.dto.UserPageData;
 import com.cityCatTarot.dto.UserRegistrationData;
+import com.cityCatTarot.dto.UserResultData;
+import com.cityCatTarot.errors.PasswordHashingBusyException;
 import com.cityCatTarot.errors.UserNotFoundException;
+import com.cityCatTarot.security.UserAuthentication;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,18 +20,31 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
@@ -55,11 +72,11 @@ class UserControllerTest {
         given(userService.registerUser(any(UserRegistrationData.class)))
                 .will(invocation -> {
                     UserRegistrationData registrationData = invocation.getArgument(0);
-                    return User.builder()
+                    return CompletableFuture.completedFuture(User.builder()
                             .id(1L)
                             .email(registrationData.getEmail())
                             .nickName(registrationData.getNickName())
-                            .build();
+                            .build());
                 });
 
         given(
@@ -101,27 +118,30 @@ class UserControllerTest {
         given(userService.deleteUser(100L))
                 .willThrow(new UserNotFoundException(100L));
 
-        given(authenticationService.parseToken(MY_TOKEN)).willReturn(1L);
-        given(authenticationService.parseToken(OTHER_TOKEN)).willReturn(2L);
-        given(authenticationService.parseToken(ADMIN_TOKEN)).willReturn(100L);
-
-        given(authenticationService.roles(1L))
-                .willReturn(Arrays.asList(new Role("USER")));
-        given(authenticationService.roles(2L))
-                .willReturn(Arrays.asList(new Role("USER")));
-        given(authenticationService.roles(100L))
-                .willReturn(Arrays.asList(new Role("USER")));
+        given(authenticationService.authenticate(MY_TOKEN))
+                .willReturn(new UserAuthentication(1L, Arrays.asList(new Role("USER"))));
+        given(authenticationService.authenticate(OTHER_TOKEN))
+                .willReturn(new UserAuthentication(2L, Arrays.asList(new Role("USER"))));
+        given(authenticationService.authenticate(ADMIN_TOKEN))
+                .willReturn(new UserAuthentication(100L,
+                        Arrays.asList(new Role("USER"), new Role("ADMIN"))));
     }
 
     @Test
     @DisplayName("POST 요청은 새로운 회원을 추가하면 201 코드와 생성된 회원을 응답한다.")
     void registerUserWithValidAttributes() throws Exception {
-        mockMvc.perform(
+        MvcResult result = mockMvc.perform(
                 post("/register")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"email\":\"tester@example.com\"," +
                                 "\"nickName\":\"Tester\",\"password\":\"test\"}")
         )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(30_000L);
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isCreated())
                 .andExpect(content().string(
                         containsString("\"id\":1")
@@ -136,6 +156,21 @@ class UserControllerTest {
         verify(userService).registerUser(any(UserRegistrationData.class));
     }
 
+    @Test
+    @DisplayName("POST 요청은 비밀번호 해시 대기열이 가득 차 있으면 503 에러를 던진다.")
+    void registerUserWhenHashingIsBusy() throws Exception {
+        given(userService.registerUser(any(UserRegistrationData.class)))
+                .willThrow(new PasswordHashingBusyException(100));
+
+        mockMvc.perform(
+                post("/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"tester@example.com\"," +
+                                "\"nickName\":\"Tester\",\"password\":\"test\"}")
+        )
+                .andExpect(status().isServiceUnavailable());
+    }
+
     @DisplayName("POST 요청은 새로운 회원정보가 없는 상태로 가입하려고 하면 404 에러를 던진다.")
     @Test
     void registerUserWithInvalidAttributes() throws Exception {
@@ -248,4 +283,122 @@ class UserControllerTest {
         mockMvc.perform(delete("/delete-user/{id}",1L))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("GET /users 요청은 관리자가 커서와 크기를 주면 회원 한 페이지와 다음 커서를 응답한다.")
+    void listUsers() throws Exception {
+        given(userService.getUsers(10L, 1))
+                .willReturn(UserPageData.builder()
+                        .users(List.of(UserResultData.builder()
+                                .id(11L)
+                                .email("tester@example.com")
+                                .nickName("Tester")
+                                .build()))
+                        .nextCursor(11L)
+                        .build());
+
+        mockMvc.perform(get("/users")
+                .param("cursor", "10")
+                .param("size", "1")
+                .header("Authorization", "Bearer " + ADMIN_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"email\":\"tester@example.com\"")))
+                .andExpect(content().string(containsString("\"nextCursor\":11")))
+                .andExpect(content().string(not(containsString("password"))));
+    }
+
+    @Test
+    @DisplayName("GET /users/export 요청은 관리자에게 긴 제한 시간으로 전체 회원을 한 줄에 한 명씩 NDJSON으로 응답한다.")
+    void exportUsers() throws Exception {
+        willAnswer(invocation -> {
+            Consumer<UserResultData> consumer = invocation.getArgument(0);
+            consumer.accept(UserResultData.builder().id(1L).email("a@example.com").build());
+            consumer.accept(UserResultData.builder().id(2L).email("b@example.com").build());
+            return null;
+        }).given(userService).forEachUser(any());
+
+        MvcResult result = mockMvc.perform(get("/users/export")
+                .header("Authorization", "Bearer " + ADMIN_TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(600_000L);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string(
+                        "{\"id\":1,\"email\":\"a@example.com\",\"nickName\":null}\n" +
+                        "{\"id\":2,\"email\":\"b@example.com\",\"nickName\":null}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /users/export 요청은 엑세스 토큰이 없으면 401 에러를 응답한다.")
+    void exportUsersWithoutAccessToken() throws Exception {
+        mockMvc.perform(get("/users/export"))
+                .andExpect(status().isUnauthorized());
+
+        verify(userService, never()).forEachUser(any());
+    }
+
+    @Test
+    @DisplayName("GET /users/export 요청은 관리자가 아니면 403 에러를 응답한다.")
+    void exportUsersWithoutAdminAuthority() throws Exception {
+        mockMvc.perform(get("/users/export")
+                .header("Authorization", "Bearer " + MY_TOKEN))
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).forEachUser(any());
+    }
+
+    @Test
+    @DisplayName("GET /users 요청은 관리자가 커서와 크기 없이 요청하면 예전처럼 전체 회원을 JSON 배열로 응답한다.")
+    void listAllUsers() throws Exception {
+        willAnswer(invocation -> {
+            Consumer<UserResultData> consumer = invocation.getArgument(0);
+            consumer.accept(UserResultData.builder().id(1L).email("a@example.com").build());
+            consumer.accept(UserResultData.builder().id(2L).email("b@example.com").build());
+            return null;
+        }).given(userService).forEachUser(any());
+
+        MvcResult result = mockMvc.perform(get("/users")
+                .header("Authorization", "Bearer " + ADMIN_TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(
+                        "[{\"id\":1,\"email\":\"a@example.com\",\"nickName\":null}," +
+                        "{\"id\":2,\"email\":\"b@example.com\",\"nickName\":null}]"));
+    }
+
+    @Test
+    @DisplayName("GET /users 요청은 엑세스 토큰이 없으면 401 에러를 응답한다.")
+    void listUsersWithoutAccessToken() throws Exception {
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/users")
+                .param("size", "20"))
+                .andExpect(status().isUnauthorized());
+
+        verify(userService, never()).forEachUser(any());
+        verify(userService, never()).getUsers(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("GET /users 요청은 관리자가 아니면 403 에러를 응답한다.")
+    void listUsersWithoutAdminAuthority() throws Exception {
+        mockMvc.perform(get("/users")
+                .header("Authorization", "Bearer " + MY_TOKEN))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/users")
+                .param("size", "20")
+                .header("Authorization", "Bearer " + MY_TOKEN))
+                .andExpect(status().isForbidden());
+
+        verify(userService, never()).forEachUser(any());
+        verify(userService, never()).getUsers(any(), anyInt());
+    }
 }
@@ -0,0 +1,81 @@
+package com.cityCatTarot.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CardCatalogTest {
+
+    private static final String TODAY_CATEGORY = "todayTarot";
+    private static final String CRUSH_CATEGORY = "crushTarot";
+
+    private CardCatalog cardCatalog;
+
+    @BeforeEach
+    void setUp() {
+        cardCatalog = new CardCatalog(Arrays.asList(
+                card(3L, CRUSH_CATEGORY, "연인"),
+                card(1L, TODAY_CATEGORY, "마법사"),
+                card(2L, TODAY_CATEGORY, "여사제")
+        ));
+    }
+
+    @Test
+    @DisplayName("findAll은 모든 카드를 식별자 순서대로 리턴한다.")
+    void findAll() {
+        assertThat(cardCatalog.findAll())
+                .extracting(Card::getCardId)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("findAll이 리턴한 목록은 변경할 수 없다.")
+    void findAllIsImmutable() {
+        assertThatThrownBy(() -> cardCatalog.findAll().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("findById는 저장된 식별자가 주어지면 카드를 리턴한다.")
+    void findByIdWithExistingId() {
+        assertThat(cardCatalog.findById(2L))
+                .hasValueSatisfying(card ->
+                        assertThat(card.getCardTitle()).isEqualTo("여사제"));
+    }
+
+    @Test
+    @DisplayName("findById는 저장되지 않은 식별자가 주어지면 빈 값을 리턴한다.")
+    void findByIdWithNotExistingId() {
+        assertThat(cardCatalog.findById(999L)).isEmpty();
+        assertThat(cardCatalog.findById(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAllByCategory는 카테고리에 속한 카드만 리턴한다.")
+    void findAllByCategory() {
+        assertThat(cardCatalog.findAllByCategory(TODAY_CATEGORY))
+                .extracting(Card::getCardId)
+                .containsExactly(1L, 2L);
+
+        assertThat(cardCatalog.findAllByCategory(CRUSH_CATEGORY))
+                .extracting(Card::getCardId)
+                .containsExactly(3L);
+
+        assertThat(cardCatalog.findAllByCategory("notCategory")).isEmpty();
+    }
+
+    private Card card(Long cardId, String cardCategory, String cardTitle) {
+        return Card.builder()
+                .cardId(cardId)
+                .cardCategory(cardCategory)
+                .cardImageUrl("url")
+                .cardTitle(cardTitle)
+                .cardDetail(cardTitle + " 카드 입니다.")
+                .build();
+    }
+}
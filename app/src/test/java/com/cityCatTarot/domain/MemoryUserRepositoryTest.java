@@ -0,0 +1,95 @@
+package com.cityCatTarot.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(MemoryUserRepository.class)
+class MemoryUserRepositoryTest {
+
+    private static final String USER_EMAIL = "Olive@Email.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .email(USER_EMAIL)
+                .nickName("olive")
+                .password("password")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("save는 이메일을 소문자로 저장한다.")
+    void saveNormalizesEmail() {
+        assertThat(userRepository.findByEmailForLogin("olive@email.com"))
+                .hasValueSatisfying(user -> assertThat(user.getEmail()).isEqualTo("olive@email.com"));
+    }
+
+    @Test
+    @DisplayName("existsByEmail은 가입한 이메일이 주어지면 true를 리턴한다.")
+    void existsByEmailWithExistingEmail() {
+        assertThat(userRepository.existsByEmail("olive@email.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("existsByEmail은 가입하지 않은 이메일이 주어지면 false를 리턴한다.")
+    void existsByEmailWithNotExistingEmail() {
+        assertThat(userRepository.existsByEmail("nobody@email.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("existsByEmail은 대소문자와 앞뒤 공백이 달라도 같은 이메일로 판단한다.")
+    void existsByEmailWithCaseVariant() {
+        assertThat(userRepository.existsByEmail(" OLIVE@EMAIL.COM ")).isTrue();
+    }
+
+    @Test
+    @DisplayName("findByEmailForRegister는 가입하지 않은 이메일이 주어지면 빈 Optional을 리턴한다.")
+    void findByEmailForRegisterWithNotExistingEmail() {
+        assertThat(userRepository.findByEmailForRegister("nobody@email.com")).isEmpty();
+        assertThat(userRepository.findByEmailForRegister("OLIVE@email.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("findByEmailForLogin은 가입하지 않은 이메일이 주어지면 빈 Optional을 리턴한다.")
+    void findByEmailForLoginWithNotExistingEmail() {
+        assertThat(userRepository.findByEmailForLogin("nobody@email.com")).isEmpty();
+        assertThat(userRepository.findByEmailForLogin(" OLIVE@email.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("findRolesVersion은 회원의 권한 버전을 리턴하고, 없는 회원이면 빈 Optional을 리턴한다.")
+    void findRolesVersion() {
+        Long userId = userRepository.findByEmailForLogin("olive@email.com").get().getId();
+
+        assertThat(userRepository.findRolesVersion(userId)).hasValue(0L);
+        assertThat(userRepository.findRolesVersion(userId + 1000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findRolesVersion은 탈퇴 처리된 회원이면 빈 Optional을 리턴한다.")
+    void findRolesVersionWithDeletedUser() {
+        User user = userRepository.findByEmailForLogin("olive@email.com").get();
+        user.destroy();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(userRepository.findRolesVersion(user.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,60 @@
+package com.cityCatTarot.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties."
+        + PooledSequenceGenerator.INCREMENT_SIZE_SETTING + "=20")
+@Import(MemoryRoleRepository.class)
+class PooledSequenceGeneratorTest {
+
+    private static final int INCREMENT_SIZE = 20;
+
+    private static final int INSERT_COUNT = 100;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("N개를 저장하면 시퀀스는 약 N / increment_size번만 읽는다.")
+    void sequenceCallsPerInsert() {
+        long before = nextVal();
+
+        for (long userId = 1; userId <= INSERT_COUNT; userId++) {
+            roleRepository.save(new Role(userId, "USER"));
+        }
+        entityManager.flush();
+
+        long sequenceCalls = (nextVal() - before) / INCREMENT_SIZE;
+        int expected = INSERT_COUNT / INCREMENT_SIZE;
+
+        assertThat(sequenceCalls).isBetween((long) expected, (long) expected + 1);
+    }
+
+    @Test
+    @DisplayName("미리 할당받은 식별자는 겹치지 않는다.")
+    void identifiersAreUnique() {
+        Role first = roleRepository.save(new Role(1L, "USER"));
+        Role second = roleRepository.save(new Role(1L, "ADMIN"));
+
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("select next_val from role_sequence", Long.class);
+    }
+}
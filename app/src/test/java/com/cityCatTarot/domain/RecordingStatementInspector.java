@@ -0,0 +1,29 @@
+package com.cityCatTarot.domain;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate가 실행하는 SQL을 기록하는 테스트용 StatementInspector.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    static List<String> statements() {
+        return new ArrayList<>(statements);
+    }
+
+    static void clear() {
+        statements.clear();
+    }
+}
@@ -0,0 +1,126 @@
+package com.cityCatTarot.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소가 실행하는 모든 조회와 삭제 SQL의 실행 계획을 확인해, 인덱스 없이 테이블 전체를 읽는 쿼리가 없는지 검사합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.cityCatTarot.domain.RecordingStatementInspector")
+@Import({MemoryCardRepository.class, MemoryInventoryRepository.class,
+        MemoryUserRepository.class, MemoryRoleRepository.class})
+class RepositoryQueryPlanTest {
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan");
+
+    /**
+     * 의도적으로 테이블 전체를 읽는 쿼리와 그 이유.
+     * 테이블 단위가 아니라 쿼리 단위로 허용해, 같은 테이블의 다른 쿼리는 계속 검사합니다.
+     */
+    private static final Map<Pattern, String> INTENTIONAL_TABLE_SCANS = Map.of(
+            statement("select \\w+\\.card_id as \\w+, .* from card \\w+"),
+            "카드 목록은 시작 시점에 한 번 전체를 읽습니다.",
+            statement("select \\w+\\.user_email as \\w+ from user \\w+"),
+            "이메일 블룸 필터는 시작 시점에 전체 회원의 이메일을 한 번 읽습니다.");
+
+    @Autowired
+    private MemoryCardRepository cardRepository;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into user (user_id, user_email, user_nick_name, user_password, deleted) "
+                + "values (1, 'tester@example.com', '테스터', 'password', false)");
+
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("저장소의 조회와 삭제 쿼리는 인덱스를 사용한다.")
+    void repositoryQueriesUseIndexes() {
+        cardRepository.loadCatalog();
+
+        inventoryRepository.findByUserId(1L, null, 20);
+        inventoryRepository.findByUserId(1L, 100L, 20);
+        inventoryRepository.countByCardId(1L);
+        try (Stream<Inventory> inventories = inventoryRepository.streamByUserId(1L)) {
+            inventories.forEach(inventory -> { });
+        }
+        inventoryRepository.delete(1L);
+        inventoryRepository.deleteAllByUserId(1L, List.of(1L, 2L, 3L));
+        inventoryRepository.deleteAllByUserId(1L);
+
+        userRepository.findById(1L);
+        userRepository.findByEmailForLogin("tester@example.com");
+        userRepository.existsByEmail("nobody@example.com");
+        userRepository.findUserResultData(null, 21);
+        userRepository.findUserResultData(1L, 21);
+        userRepository.findUserResultDataById(1L);
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(email -> { });
+        }
+        userRepository.updatePassword(1L, "old", "new");
+        userRepository.findRolesVersion(1L);
+        userRepository.delete(999L);
+
+        roleRepository.findAllByUserId(1L);
+
+        List<String> statements = RecordingStatementInspector.statements();
+        assertThat(statements).isNotEmpty();
+
+        List<String> tableScans = new ArrayList<>();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            if (TABLE_SCAN.matcher(plan).find() && !isIntentionalTableScan(sql)) {
+                tableScans.add(sql + System.lineSeparator() + "  => " + plan);
+            }
+        }
+
+        assertThat(tableScans).isEmpty();
+    }
+
+    private static Pattern statement(String regex) {
+        return Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+    }
+
+    private boolean isIntentionalTableScan(String sql) {
+        return INTENTIONAL_TABLE_SCANS.keySet().stream()
+                .anyMatch(pattern -> pattern.matcher(sql.trim()).matches());
+    }
+
+    private String explain(String sql) {
+        List<String> plan = jdbcTemplate.query("EXPLAIN " + sql, preparedStatement -> {
+            int parameterCount = preparedStatement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                preparedStatement.setLong(i, 1L);
+            }
+        }, (resultSet, rowNum) -> resultSet.getString(1));
+
+        return String.join(System.lineSeparator(), plan);
+    }
+}
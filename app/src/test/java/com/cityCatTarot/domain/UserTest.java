@@ -66,6 +66,24 @@ class UserTest {
         assertThat(user.isDeleted()).isTrue();
     }
 
+    @Test
+    @DisplayName("changeRoles는 권한 버전을 올린다.")
+    void changeRoles() {
+        User user = User.builder()
+                .email("user@email.coz")
+                .nickName("userNick")
+                .password("userPw")
+                .build();
+
+        assertThat(user.getRolesVersion()).isZero();
+
+        user.changeRoles();
+        assertThat(user.getRolesVersion()).isEqualTo(1L);
+
+        user.destroy();
+        assertThat(user.getRolesVersion()).isEqualTo(2L);
+    }
+
     @Test
     @DisplayName("authenticate는 회원이 삭제되지 않았고, 비밀번호가 일치하면 true를 반환한다.")
     void authenticateWithDeletedUser() {
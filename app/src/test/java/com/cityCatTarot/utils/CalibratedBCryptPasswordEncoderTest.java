@@ -0,0 +1,61 @@
+package com.cityCatTarot.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    private static final Duration BUDGET = Duration.ofMillis(250);
+
+    private final IntFunction<Duration> doublingHashTime =
+            strength -> Duration.ofMillis(1L << (strength - 4));
+
+    @Test
+    @DisplayName("calibrateStrength는 예산 안에 드는 가장 높은 강도를 리턴한다.")
+    void calibrateStrength() {
+        assertThat(CalibratedBCryptPasswordEncoder.calibrateStrength(
+                BUDGET, 4, 31, doublingHashTime)).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("calibrateStrength는 최소 강도로도 예산을 넘으면 최소 강도를 리턴한다.")
+    void calibrateStrengthOverBudget() {
+        assertThat(CalibratedBCryptPasswordEncoder.calibrateStrength(
+                BUDGET, 14, 31, doublingHashTime)).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("calibrateStrength는 최대 강도를 넘지 않는다.")
+    void calibrateStrengthWithMaxStrength() {
+        assertThat(CalibratedBCryptPasswordEncoder.calibrateStrength(
+                BUDGET, 4, 8, doublingHashTime)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("calibrate는 만든 인코더로 암호화한 비밀번호를 검증할 수 있다.")
+    void calibrate() {
+        CalibratedBCryptPasswordEncoder passwordEncoder =
+                CalibratedBCryptPasswordEncoder.calibrate(Duration.ZERO, 4, 5);
+
+        assertThat(passwordEncoder.getStrength()).isEqualTo(4);
+        assertThat(passwordEncoder.matches("password", passwordEncoder.encode("password"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding은 저장된 해시의 강도가 낮을 때만 true를 리턴한다.")
+    void upgradeEncoding() {
+        CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(5);
+
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw"))).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("pw"))).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding("not a bcrypt hash")).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(null)).isFalse();
+    }
+}
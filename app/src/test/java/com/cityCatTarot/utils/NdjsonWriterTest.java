@@ -0,0 +1,50 @@
+package com.cityCatTarot.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("write는 값을 한 줄에 하나씩 JSON으로 쓴다.")
+    void write() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream, false)) {
+            writer.write(Map.of("cardId", 1));
+            writer.write(Map.of("cardTitle", "마법사"));
+        }
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"cardId\":1}\n{\"cardTitle\":\"마법사\"}\n");
+    }
+
+    @Test
+    @DisplayName("gzip이면 압축해서 쓴다.")
+    void writeWithGzip() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (NdjsonWriter writer = new NdjsonWriter(objectMapper, outputStream, true)) {
+            writer.write(Map.of("cardId", 1));
+            writer.write(Map.of("cardId", 2));
+        }
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("{\"cardId\":1}\n{\"cardId\":2}\n");
+        }
+    }
+}
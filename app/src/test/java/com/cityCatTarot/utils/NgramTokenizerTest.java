@@ -0,0 +1,43 @@
+package com.cityCatTarot.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramTokenizerTest {
+
+    @Test
+    @DisplayName("indexTerms는 띄어쓰기와 문장부호를 빼고 unigram과 bigram을 리턴한다.")
+    void indexTerms() {
+        assertThat(NgramTokenizer.indexTerms("연락 올까?"))
+                .containsExactly("연", "연락", "락", "락올", "올", "올까", "까");
+    }
+
+    @Test
+    @DisplayName("queryTerms는 두 글자 이상의 검색어를 bigram으로 나눈다.")
+    void queryTerms() {
+        assertThat(NgramTokenizer.queryTerms("연락 올까"))
+                .containsExactly("연락", "락올", "올까");
+    }
+
+    @Test
+    @DisplayName("queryTerms는 한 글자 검색어를 unigram으로 리턴한다.")
+    void queryTermsWithOneLetter() {
+        assertThat(NgramTokenizer.queryTerms(" 돈 ")).containsExactly("돈");
+    }
+
+    @Test
+    @DisplayName("전각 문자와 대문자는 같은 글자로 정규화한다.")
+    void normalize() {
+        assertThat(NgramTokenizer.queryTerms("ＣＲＵＳＨ"))
+                .isEqualTo(NgramTokenizer.queryTerms("crush"));
+    }
+
+    @Test
+    @DisplayName("찾을 글자가 없으면 빈 집합을 리턴한다.")
+    void emptyQuery() {
+        assertThat(NgramTokenizer.queryTerms("?! ")).isEmpty();
+        assertThat(NgramTokenizer.queryTerms(null)).isEmpty();
+    }
+}